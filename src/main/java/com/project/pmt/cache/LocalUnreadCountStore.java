@@ -0,0 +1,73 @@
+package com.project.pmt.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.time.Duration;
+
+/**
+ * In-process unread counters backed by a size-bounded Caffeine cache.
+ * Every change goes through {@code compute} on the user's counter entry, so it is atomic with
+ * respect to the generation check of a concurrent rebuild.
+ */
+public class LocalUnreadCountStore implements UnreadCountStore {
+
+    private final Cache<Long, Long> counts;
+    private final Cache<Long, Long> generations;
+
+    public LocalUnreadCountStore(long maximumSize, Duration ttl) {
+        this.counts = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .build();
+        // Outlives the counters so a rebuild in flight still sees a move; a dropped entry reads as a new generation
+        this.generations = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterAccess(ttl.multipliedBy(2))
+                .build();
+    }
+
+    @Override
+    public Long get(Long userId) {
+        return counts.getIfPresent(userId);
+    }
+
+    @Override
+    public long generation(Long userId) {
+        return generations.get(userId, key -> System.nanoTime());
+    }
+
+    @Override
+    public void putIfUnchanged(Long userId, long count, long generation) {
+        counts.asMap().compute(userId, (key, current) -> {
+            if (current != null) {
+                return current;
+            }
+            Long latest = generations.getIfPresent(key);
+            return latest != null && latest == generation ? Math.max(count, 0) : null;
+        });
+    }
+
+    @Override
+    public void increment(Long userId, long delta) {
+        counts.asMap().compute(userId, (key, count) -> {
+            if (count == null) {
+                advance(key);
+                return null;
+            }
+            return Math.max(count + delta, 0);
+        });
+    }
+
+    @Override
+    public void evict(Long userId) {
+        counts.asMap().compute(userId, (key, count) -> {
+            advance(key);
+            return null;
+        });
+    }
+
+    private void advance(Long userId) {
+        generations.asMap().merge(userId, 1L, Long::sum);
+    }
+}
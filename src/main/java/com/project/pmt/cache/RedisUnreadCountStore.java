@@ -0,0 +1,101 @@
+package com.project.pmt.cache;
+
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Unread counters shared by all nodes through Redis
+ */
+public class RedisUnreadCountStore implements UnreadCountStore {
+
+    private static final String KEY_PREFIX = "pmt:notifications:unread:";
+    private static final String GENERATION_KEY_PREFIX = "pmt:notifications:unread-generation:";
+
+    // Read the generation, creating it at zero; every touch extends its lifetime
+    private static final RedisScript<Long> GENERATION = new DefaultRedisScript<>(
+            "local generation = redis.call('INCRBY', KEYS[1], 0) " +
+                    "redis.call('PEXPIRE', KEYS[1], ARGV[1]) " +
+                    "return generation",
+            Long.class);
+
+    // SET NX, and only while the generation is still the one read before counting
+    private static final RedisScript<Long> PUT_IF_UNCHANGED = new DefaultRedisScript<>(
+            "if (redis.call('GET', KEYS[2]) or '0') ~= ARGV[2] then return 0 end " +
+                    "if redis.call('SET', KEYS[1], ARGV[1], 'NX', 'PX', ARGV[3]) then return 1 end " +
+                    "return 0",
+            Long.class);
+
+    // Adjust only existing counters, never going below zero; a missing counter moves the generation
+    private static final RedisScript<Long> INCREMENT_IF_PRESENT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[1]) == 1 then " +
+                    "local count = redis.call('INCRBY', KEYS[1], ARGV[1]) " +
+                    "if count < 0 then redis.call('SET', KEYS[1], 0, 'KEEPTTL') count = 0 end " +
+                    "return count " +
+                    "end " +
+                    "redis.call('INCR', KEYS[2]) " +
+                    "redis.call('PEXPIRE', KEYS[2], ARGV[2]) " +
+                    "return nil",
+            Long.class);
+
+    private static final RedisScript<Long> EVICT = new DefaultRedisScript<>(
+            "redis.call('DEL', KEYS[1]) " +
+                    "redis.call('INCR', KEYS[2]) " +
+                    "redis.call('PEXPIRE', KEYS[2], ARGV[1]) " +
+                    "return 1",
+            Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final Duration ttl;
+
+    public RedisUnreadCountStore(StringRedisTemplate redisTemplate, Duration ttl) {
+        this.redisTemplate = redisTemplate;
+        this.ttl = ttl;
+    }
+
+    @Override
+    public Long get(Long userId) {
+        String value = redisTemplate.opsForValue().get(key(userId));
+        return value != null ? Long.valueOf(value) : null;
+    }
+
+    @Override
+    public long generation(Long userId) {
+        Long generation = redisTemplate.execute(GENERATION, List.of(generationKey(userId)), generationTtl());
+        return generation != null ? generation : 0;
+    }
+
+    @Override
+    public void putIfUnchanged(Long userId, long count, long generation) {
+        redisTemplate.execute(PUT_IF_UNCHANGED, List.of(key(userId), generationKey(userId)),
+                String.valueOf(Math.max(count, 0)), String.valueOf(generation), String.valueOf(ttl.toMillis()));
+    }
+
+    @Override
+    public void increment(Long userId, long delta) {
+        redisTemplate.execute(INCREMENT_IF_PRESENT, List.of(key(userId), generationKey(userId)),
+                String.valueOf(delta), generationTtl());
+    }
+
+    @Override
+    public void evict(Long userId) {
+        redisTemplate.execute(EVICT, List.of(key(userId), generationKey(userId)), generationTtl());
+    }
+
+    // Hash tag keeps a user's counter and generation in one cluster slot, as the scripts touch both
+    private String key(Long userId) {
+        return KEY_PREFIX + "{" + userId + "}";
+    }
+
+    private String generationKey(Long userId) {
+        return GENERATION_KEY_PREFIX + "{" + userId + "}";
+    }
+
+    // Outlives the counters so a rebuild in flight still sees a move
+    private String generationTtl() {
+        return String.valueOf(ttl.multipliedBy(2).toMillis());
+    }
+}
@@ -0,0 +1,40 @@
+package com.project.pmt.cache;
+
+/**
+ * Per-user unread notification counters.
+ * Implementations only adjust counters that are already cached; a missing counter
+ * is rebuilt from the database by the caller.
+ * <p>
+ * A rebuild races with concurrent changes: an increment that arrives while the count query runs
+ * finds no counter and is dropped. Each user therefore has a generation that moves whenever a
+ * change could not be applied to a cached counter or the counter was evicted. A rebuild reads the
+ * generation before counting and stores its result only if the generation is unchanged and no
+ * other counter was stored meanwhile; otherwise the next read simply counts again.
+ */
+public interface UnreadCountStore {
+
+    /**
+     * @return Cached unread count, or null when the user has no cached counter
+     */
+    Long get(Long userId);
+
+    /**
+     * @return Current generation of the user's counter, read before counting unread notifications
+     */
+    long generation(Long userId);
+
+    /**
+     * Store a rebuilt count unless a counter is already cached or the generation has moved since it was read
+     */
+    void putIfUnchanged(Long userId, long count, long generation);
+
+    /**
+     * Add delta to the counter if it is cached; never creates a counter and moves the generation when there is none
+     */
+    void increment(Long userId, long delta);
+
+    /**
+     * Drop the counter and move the generation, so rebuilds already counting do not store a stale value
+     */
+    void evict(Long userId);
+}
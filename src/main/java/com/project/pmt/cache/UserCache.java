@@ -0,0 +1,99 @@
+package com.project.pmt.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.project.pmt.entity.User;
+import com.project.pmt.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Short-lived, size-bounded cache of users keyed by username and by id.
+ * Entries are detached snapshots holding the scalar columns only; every lookup returns a fresh
+ * copy so callers never share an instance across threads. Lazy collections are not carried over.
+ * Writers must call {@link #evict(Long)} once their change is committed.
+ */
+@Component
+public class UserCache {
+
+    private final UserRepository userRepository;
+    private final Cache<String, User> byUsername;
+    private final Cache<Long, User> byId;
+
+    public UserCache(
+            UserRepository userRepository,
+            MeterRegistry meterRegistry,
+            @Value("${user.cache.ttl:PT1M}") Duration ttl,
+            @Value("${user.cache.maximum-size:10000}") long maximumSize) {
+        this.userRepository = userRepository;
+        this.byUsername = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        this.byId = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, byUsername, "users.by-username");
+        CaffeineCacheMetrics.monitor(meterRegistry, byId, "users.by-id");
+    }
+
+    public Optional<User> findByUsername(String username) {
+        User cached = byUsername.getIfPresent(username);
+        if (cached == null) {
+            cached = userRepository.findByUsername(username).map(this::store).orElse(null);
+        }
+        return Optional.ofNullable(cached).map(UserCache::copyOf);
+    }
+
+    public Optional<User> findById(Long id) {
+        User cached = byId.getIfPresent(id);
+        if (cached == null) {
+            cached = userRepository.findById(id).map(this::store).orElse(null);
+        }
+        return Optional.ofNullable(cached).map(UserCache::copyOf);
+    }
+
+    public void evict(Long id) {
+        User cached = byId.getIfPresent(id);
+        byId.invalidate(id);
+        if (cached != null) {
+            byUsername.invalidate(cached.getUsername());
+        } else {
+            byUsername.asMap().values().removeIf(user -> user.getId().equals(id));
+        }
+    }
+
+    private User store(User user) {
+        User snapshot = copyOf(user);
+        byUsername.put(snapshot.getUsername(), snapshot);
+        byId.put(snapshot.getId(), snapshot);
+        return snapshot;
+    }
+
+    private static User copyOf(User source) {
+        User copy = new User();
+        copy.setId(source.getId());
+        copy.setUsername(source.getUsername());
+        copy.setPasswordHash(source.getPasswordHash());
+        copy.setEmail(source.getEmail());
+        copy.setFullName(source.getFullName());
+        copy.setRole(source.getRole());
+        copy.setIsActive(source.getIsActive());
+        copy.setAvatarUrl(source.getAvatarUrl());
+        copy.setPhoneNumber(source.getPhoneNumber());
+        copy.setDepartment(source.getDepartment());
+        copy.setCreatedAt(source.getCreatedAt());
+        copy.setUpdatedAt(source.getUpdatedAt());
+        copy.setCreatedBy(source.getCreatedBy());
+        copy.setUpdatedBy(source.getUpdatedBy());
+        return copy;
+    }
+}
@@ -0,0 +1,61 @@
+package com.project.pmt.config;
+
+import com.project.pmt.storage.AttachmentStore;
+import com.project.pmt.storage.LocalAttachmentStore;
+import com.project.pmt.storage.S3AttachmentStore;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.StringUtils;
+import org.springframework.util.unit.DataSize;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.S3ClientBuilder;
+import software.amazon.awssdk.services.s3.S3Configuration;
+
+import java.net.URI;
+import java.nio.file.Paths;
+
+/**
+ * Selects the attachment storage backend.
+ * Files go to the local upload directory by default and to S3 when aws.s3.enabled is true.
+ * Setting aws.s3.endpoint points the S3 client at an S3-compatible server (MinIO, LocalStack)
+ * with path-style addressing, so the S3 path can be exercised locally.
+ */
+@Configuration
+public class AttachmentStoreConfig {
+
+    @Bean
+    @ConditionalOnProperty(name = "aws.s3.enabled", havingValue = "false", matchIfMissing = true)
+    public AttachmentStore localAttachmentStore(@Value("${file.upload.dir:./uploads}") String uploadDir) {
+        return new LocalAttachmentStore(Paths.get(uploadDir));
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "aws.s3.enabled", havingValue = "true")
+    public S3Client s3Client(
+            @Value("${aws.s3.region:us-east-1}") String region,
+            @Value("${aws.s3.endpoint:}") String endpoint) {
+        S3ClientBuilder builder = S3Client.builder().region(Region.of(region));
+        if (StringUtils.hasText(endpoint)) {
+            builder.endpointOverride(URI.create(endpoint))
+                    .serviceConfiguration(S3Configuration.builder().pathStyleAccessEnabled(true).build());
+        }
+        return builder.build();
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "aws.s3.enabled", havingValue = "true")
+    public AttachmentStore s3AttachmentStore(
+            S3Client s3Client,
+            @Value("${aws.s3.bucket}") String bucket,
+            @Value("${aws.s3.endpoint:}") String endpoint,
+            @Value("${file.upload.s3.part-size:5MB}") DataSize partSize,
+            @Value("${file.upload.s3.max-buffered-parts:16}") int maxBufferedParts) {
+        String urlPrefix = StringUtils.hasText(endpoint)
+                ? StringUtils.trimTrailingCharacter(endpoint, '/') + "/" + bucket
+                : String.format("https://%s.s3.amazonaws.com", bucket);
+        return new S3AttachmentStore(s3Client, bucket, urlPrefix, Math.toIntExact(partSize.toBytes()), maxBufferedParts);
+    }
+}
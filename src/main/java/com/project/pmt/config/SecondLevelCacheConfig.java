@@ -0,0 +1,88 @@
+package com.project.pmt.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import com.project.pmt.entity.Label;
+import com.project.pmt.entity.Project;
+import com.project.pmt.entity.Sprint;
+import com.project.pmt.entity.User;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.JCacheMetrics;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cache.spi.RegionFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import javax.cache.spi.CachingProvider;
+import java.net.URI;
+import java.time.Duration;
+import java.util.OptionalLong;
+
+/**
+ * Hibernate second-level and query cache, backed by Caffeine through JCache.
+ * Every region is created here with its own size limit and time to live, so nothing falls back to
+ * an unbounded provider default. The update timestamps region is never evicted, as Hibernate
+ * needs it to tell whether a cached query result is stale.
+ */
+@Configuration
+public class SecondLevelCacheConfig {
+
+    private static final String PROJECT_MEMBERS_REGION = Project.class.getName() + ".members";
+
+    @Bean(destroyMethod = "close")
+    public CacheManager secondLevelCacheManager(
+            @Value("${cache.second-level.user.maximum-size:10000}") long userSize,
+            @Value("${cache.second-level.user.ttl:PT10M}") Duration userTtl,
+            @Value("${cache.second-level.project.maximum-size:5000}") long projectSize,
+            @Value("${cache.second-level.project.ttl:PT30M}") Duration projectTtl,
+            @Value("${cache.second-level.sprint.maximum-size:5000}") long sprintSize,
+            @Value("${cache.second-level.sprint.ttl:PT30M}") Duration sprintTtl,
+            @Value("${cache.second-level.label.maximum-size:1000}") long labelSize,
+            @Value("${cache.second-level.label.ttl:PT1H}") Duration labelTtl,
+            @Value("${cache.second-level.query.maximum-size:10000}") long querySize,
+            @Value("${cache.second-level.query.ttl:PT5M}") Duration queryTtl) {
+        CachingProvider provider = Caching.getCachingProvider(CaffeineCachingProvider.class.getName());
+        CacheManager cacheManager = provider.getCacheManager(URI.create("pmt-second-level"), getClass().getClassLoader());
+
+        createRegion(cacheManager, User.class.getName(), OptionalLong.of(userSize), userTtl);
+        createRegion(cacheManager, Project.class.getName(), OptionalLong.of(projectSize), projectTtl);
+        createRegion(cacheManager, PROJECT_MEMBERS_REGION, OptionalLong.of(projectSize), projectTtl);
+        createRegion(cacheManager, Sprint.class.getName(), OptionalLong.of(sprintSize), sprintTtl);
+        createRegion(cacheManager, Label.class.getName(), OptionalLong.of(labelSize), labelTtl);
+        createRegion(cacheManager, RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME,
+                OptionalLong.of(querySize), queryTtl);
+        createRegion(cacheManager, RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME,
+                OptionalLong.empty(), null);
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer(CacheManager secondLevelCacheManager) {
+        return properties -> properties.put(ConfigSettings.CACHE_MANAGER, secondLevelCacheManager);
+    }
+
+    /**
+     * Hit, miss, put and eviction counts per region, tagged cache=<region name>
+     */
+    @Bean
+    public MeterBinder secondLevelCacheMetrics(CacheManager secondLevelCacheManager) {
+        return registry -> {
+            for (String name : secondLevelCacheManager.getCacheNames()) {
+                JCacheMetrics.monitor(registry, secondLevelCacheManager.getCache(name));
+            }
+        };
+    }
+
+    private static void createRegion(CacheManager cacheManager, String name, OptionalLong maximumSize, Duration ttl) {
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>()
+                .setStoreByValue(false)
+                .setStatisticsEnabled(true)
+                .setMaximumSize(maximumSize)
+                .setExpireAfterWrite(ttl != null ? OptionalLong.of(ttl.toNanos()) : OptionalLong.empty());
+        cacheManager.createCache(name, configuration);
+    }
+}
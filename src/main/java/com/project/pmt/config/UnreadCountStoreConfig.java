@@ -0,0 +1,37 @@
+package com.project.pmt.config;
+
+import com.project.pmt.cache.LocalUnreadCountStore;
+import com.project.pmt.cache.RedisUnreadCountStore;
+import com.project.pmt.cache.UnreadCountStore;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Duration;
+
+/**
+ * Selects the unread notification counter backend.
+ * Counters live in process by default and move to Redis when redis.enabled is true,
+ * so all nodes share them.
+ */
+@Configuration
+public class UnreadCountStoreConfig {
+
+    @Value("${notification.unread-cache.ttl:PT10M}")
+    private Duration ttl;
+
+    @Bean
+    @ConditionalOnProperty(name = "redis.enabled", havingValue = "false", matchIfMissing = true)
+    public UnreadCountStore localUnreadCountStore(
+            @Value("${notification.unread-cache.maximum-size:100000}") long maximumSize) {
+        return new LocalUnreadCountStore(maximumSize, ttl);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "redis.enabled", havingValue = "true")
+    public UnreadCountStore redisUnreadCountStore(StringRedisTemplate redisTemplate) {
+        return new RedisUnreadCountStore(redisTemplate, ttl);
+    }
+}
@@ -1,8 +1,10 @@
 package com.project.pmt.controller;
 
 import com.project.pmt.dto.response.ApiResponse;
+import com.project.pmt.dto.response.SystemStatsResponse;
 import com.project.pmt.dto.response.UserResponse;
 import com.project.pmt.enums.Role;
+import com.project.pmt.service.SystemStatsService;
 import com.project.pmt.service.UserService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
@@ -28,6 +30,7 @@ import java.util.List;
 public class AdminController {
 
     private final UserService userService;
+    private final SystemStatsService systemStatsService;
 
     /**
      * Get all users (Admin view)
@@ -100,32 +103,13 @@ public class AdminController {
     }
 
     /**
-     * Get system statistics (optional)
+     * Get system statistics
      * GET /api/admin/stats
      */
     @GetMapping("/stats")
-    @Operation(summary = "Get system statistics", description = "Get overall system statistics")
-    public ResponseEntity<ApiResponse<SystemStats>> getSystemStats() {
-        // Implementation would require creating SystemStats class and service method
-        // Placeholder for future implementation
-        SystemStats stats = SystemStats.builder()
-                .totalUsers(0L)
-                .totalProjects(0L)
-                .totalIssues(0L)
-                .activeUsers(0L)
-                .build();
+    @Operation(summary = "Get system statistics", description = "Get overall system statistics, refreshed periodically")
+    public ResponseEntity<ApiResponse<SystemStatsResponse>> getSystemStats() {
+        SystemStatsResponse stats = systemStatsService.getStats();
         return ResponseEntity.ok(ApiResponse.success(stats));
     }
-
-    /**
-     * Inner class for system statistics
-     */
-    @lombok.Data
-    @lombok.Builder
-    private static class SystemStats {
-        private Long totalUsers;
-        private Long totalProjects;
-        private Long totalIssues;
-        private Long activeUsers;
-    }
-}
\ No newline at end of file
+}
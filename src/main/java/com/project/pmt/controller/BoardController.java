@@ -0,0 +1,77 @@
+package com.project.pmt.controller;
+
+import com.project.pmt.dto.response.ApiResponse;
+import com.project.pmt.dto.response.BoardDeltaResponse;
+import com.project.pmt.dto.response.BoardResponse;
+import com.project.pmt.service.BoardService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+
+/**
+ * Board Controller
+ * Serves whole Kanban boards with ETag revalidation, and incremental board changes
+ */
+@RestController
+@RequestMapping("/boards")
+@RequiredArgsConstructor
+@SecurityRequirement(name = "bearer-jwt")
+@Tag(name = "Boards", description = "Kanban board endpoints")
+public class BoardController {
+
+    private final BoardService boardService;
+
+    /**
+     * Every column of a project board, or of one sprint's board
+     * GET /api/boards/project/{projectId}?sprintId=
+     */
+    @GetMapping("/project/{projectId}")
+    @Operation(summary = "Get board snapshot",
+            description = "All status columns with compact cards; send If-None-Match to get 304 when the board is unchanged")
+    public ResponseEntity<ApiResponse<BoardResponse>> getBoard(
+            @PathVariable Long projectId,
+            @RequestParam(required = false)
+            @Parameter(description = "Only show issues of this sprint")
+            Long sprintId,
+            WebRequest webRequest) {
+        String eTag = boardService.getBoardETag(projectId, sprintId);
+        if (webRequest.checkNotModified(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(eTag)
+                    .cacheControl(CacheControl.noCache())
+                    .build();
+        }
+
+        BoardResponse response = boardService.getBoard(projectId, sprintId);
+        return ResponseEntity.ok()
+                .eTag(BoardService.eTag(projectId, sprintId, response.getVersion()))
+                .cacheControl(CacheControl.noCache())
+                .body(ApiResponse.success(response));
+    }
+
+    /**
+     * Cards changed on a board after a version the client already has
+     * GET /api/boards/project/{projectId}/changes?since=
+     */
+    @GetMapping("/project/{projectId}/changes")
+    @Operation(summary = "Get board changes",
+            description = "Cards created, changed or removed after a board version; reload the board when reloadRequired is set")
+    public ResponseEntity<ApiResponse<BoardDeltaResponse>> getBoardChanges(
+            @PathVariable Long projectId,
+            @RequestParam
+            @Parameter(description = "Board version the client already has")
+            long since,
+            @RequestParam(required = false)
+            @Parameter(description = "Only show issues of this sprint")
+            Long sprintId) {
+        BoardDeltaResponse response = boardService.getBoardChanges(projectId, sprintId, since);
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+}
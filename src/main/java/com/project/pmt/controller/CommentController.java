@@ -4,8 +4,10 @@ import com.project.pmt.dto.request.CreateCommentRequest;
 import com.project.pmt.dto.request.UpdateCommentRequest;
 import com.project.pmt.dto.response.ApiResponse;
 import com.project.pmt.dto.response.CommentResponse;
+import com.project.pmt.dto.response.CursorPageResponse;
 import com.project.pmt.service.CommentService;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
@@ -66,6 +68,27 @@ public class CommentController {
         return ResponseEntity.ok(ApiResponse.success(response));
     }
 
+    /**
+     * Page through an issue's comments with a cursor, oldest first
+     * GET /api/comments/issue/{issueId}/page
+     */
+    @GetMapping("/issue/{issueId}/page")
+    @Operation(summary = "Get comments page", description = "Cursor-paginated comments of an issue, oldest first")
+    public ResponseEntity<ApiResponse<CursorPageResponse<CommentResponse>>> getCommentsByIssuePage(
+            @PathVariable Long issueId,
+            @RequestParam(required = false)
+            @Parameter(description = "Cursor from the previous page; omit for the first page")
+            String cursor,
+            @RequestParam(defaultValue = "20")
+            @Parameter(description = "Number of items per page (max 100)", example = "20")
+            int size,
+            @RequestParam(defaultValue = "false")
+            @Parameter(description = "Also count all items, which costs an extra query")
+            boolean includeTotal) {
+        CursorPageResponse<CommentResponse> response = commentService.getCommentsByIssuePage(issueId, cursor, size, includeTotal);
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
     /**
      * Update comment
      * PUT /api/comments/{id}
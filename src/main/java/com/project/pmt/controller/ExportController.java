@@ -11,8 +11,8 @@ import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
-import java.io.IOException;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 
@@ -32,20 +32,21 @@ public class ExportController {
     /**
      * Export issues to Excel
      * GET /api/export/issues/excel?projectId=1&status=TODO
+     * The workbook is built with a bounded row window and written directly to the response
      */
     @GetMapping("/issues/excel")
     @Operation(summary = "Export to Excel", description = "Export filtered issues to Excel file")
-    public ResponseEntity<byte[]> exportIssuesToExcel(
+    public ResponseEntity<StreamingResponseBody> exportIssuesToExcel(
             @RequestParam(required = false) Long projectId,
             @RequestParam(required = false) Long assigneeId,
             @RequestParam(required = false) Long reporterId,
             @RequestParam(required = false) IssueStatus status,
             @RequestParam(required = false) Priority priority,
             @RequestParam(required = false) Long sprintId,
-            @RequestParam(required = false) String q) throws IOException {
+            @RequestParam(required = false) String q) {
 
-        byte[] excelData = exportService.exportIssuesToExcel(
-                projectId, assigneeId, reporterId, status, priority, sprintId, q
+        StreamingResponseBody body = outputStream -> exportService.streamIssuesToExcel(
+                projectId, assigneeId, reporterId, status, priority, sprintId, q, outputStream
         );
 
         String filename = generateFilename("issues", "xlsx");
@@ -53,20 +54,20 @@ public class ExportController {
         HttpHeaders headers = new HttpHeaders();
         headers.setContentType(MediaType.APPLICATION_OCTET_STREAM);
         headers.setContentDispositionFormData("attachment", filename);
-        headers.setContentLength(excelData.length);
 
         return ResponseEntity.ok()
                 .headers(headers)
-                .body(excelData);
+                .body(body);
     }
 
     /**
      * Export issues to CSV
      * GET /api/export/issues/csv?projectId=1&status=TODO
+     * The file is streamed row by row, so the full result is never held in memory
      */
     @GetMapping("/issues/csv")
     @Operation(summary = "Export to CSV", description = "Export filtered issues to CSV file")
-    public ResponseEntity<String> exportIssuesToCSV(
+    public ResponseEntity<StreamingResponseBody> exportIssuesToCSV(
             @RequestParam(required = false) Long projectId,
             @RequestParam(required = false) Long assigneeId,
             @RequestParam(required = false) Long reporterId,
@@ -75,8 +76,8 @@ public class ExportController {
             @RequestParam(required = false) Long sprintId,
             @RequestParam(required = false) String q) {
 
-        String csvData = exportService.exportIssuesToCSV(
-                projectId, assigneeId, reporterId, status, priority, sprintId, q
+        StreamingResponseBody body = outputStream -> exportService.streamIssuesToCSV(
+                projectId, assigneeId, reporterId, status, priority, sprintId, q, outputStream
         );
 
         String filename = generateFilename("issues", "csv");
@@ -84,11 +85,10 @@ public class ExportController {
         HttpHeaders headers = new HttpHeaders();
         headers.setContentType(MediaType.parseMediaType("text/csv"));
         headers.setContentDispositionFormData("attachment", filename);
-        headers.setContentLength(csvData.length());
 
         return ResponseEntity.ok()
                 .headers(headers)
-                .body(csvData);
+                .body(body);
     }
 
     /**
@@ -0,0 +1,76 @@
+package com.project.pmt.controller;
+
+import com.project.pmt.dto.request.BulkUpdateIssuesRequest;
+import com.project.pmt.dto.request.MoveIssueRequest;
+import com.project.pmt.dto.response.ApiResponse;
+import com.project.pmt.dto.response.CursorPageResponse;
+import com.project.pmt.dto.response.IssueResponse;
+import com.project.pmt.service.IssueService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * Issue Controller
+ * Handles issue board operations
+ */
+@RestController
+@RequestMapping("/issues")
+@RequiredArgsConstructor
+@SecurityRequirement(name = "bearer-jwt")
+@Tag(name = "Issues", description = "Issue management endpoints")
+public class IssueController {
+
+    private final IssueService issueService;
+
+    /**
+     * Page through a project's issues with a cursor, newest first
+     * GET /api/issues/project/{projectId}/page
+     */
+    @GetMapping("/project/{projectId}/page")
+    @Operation(summary = "Get project issues page", description = "Cursor-paginated issues of a project, newest first")
+    public ResponseEntity<ApiResponse<CursorPageResponse<IssueResponse>>> getIssuesByProjectPage(
+            @PathVariable Long projectId,
+            @RequestParam(required = false)
+            @Parameter(description = "Cursor from the previous page; omit for the first page")
+            String cursor,
+            @RequestParam(defaultValue = "20")
+            @Parameter(description = "Number of items per page (max 100)", example = "20")
+            int size,
+            @RequestParam(defaultValue = "false")
+            @Parameter(description = "Also count all items, which costs an extra query")
+            boolean includeTotal) {
+        CursorPageResponse<IssueResponse> response = issueService.getIssuesByProjectPage(projectId, cursor, size, includeTotal);
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
+    /**
+     * Apply the same change to many issues
+     * PATCH /api/issues/bulk
+     */
+    @PatchMapping("/bulk")
+    @Operation(summary = "Bulk update issues", description = "Change status, priority, assignee, sprint or labels of many issues at once")
+    public ResponseEntity<ApiResponse<Integer>> bulkUpdateIssues(
+            @Valid @RequestBody BulkUpdateIssuesRequest request) {
+        int updated = issueService.bulkUpdateIssues(request);
+        return ResponseEntity.ok(ApiResponse.success("Issues updated successfully", updated));
+    }
+
+    /**
+     * Move issue on the board (drag and drop)
+     * PATCH /api/issues/{id}/move
+     */
+    @PatchMapping("/{id}/move")
+    @Operation(summary = "Move issue", description = "Move an issue between two cards and optionally to another status column")
+    public ResponseEntity<ApiResponse<IssueResponse>> moveIssue(
+            @PathVariable Long id,
+            @Valid @RequestBody MoveIssueRequest request) {
+        IssueResponse response = issueService.moveIssue(id, request);
+        return ResponseEntity.ok(ApiResponse.success("Issue moved successfully", response));
+    }
+}
@@ -1,14 +1,18 @@
 package com.project.pmt.controller;
 
 import com.project.pmt.dto.response.ApiResponse;
+import com.project.pmt.dto.response.CursorPageResponse;
 import com.project.pmt.dto.response.NotificationResponse;
 import com.project.pmt.service.NotificationService;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
 
@@ -36,6 +40,38 @@ public class NotificationController {
         return ResponseEntity.ok(ApiResponse.success(response));
     }
 
+    /**
+     * Page through my notifications with a cursor, newest first
+     * GET /api/notifications/page
+     */
+    @GetMapping("/page")
+    @Operation(summary = "Get my notifications page", description = "Cursor-paginated notifications for current user, newest first")
+    public ResponseEntity<ApiResponse<CursorPageResponse<NotificationResponse>>> getMyNotificationsPage(
+            @RequestParam(required = false)
+            @Parameter(description = "Cursor from the previous page; omit for the first page")
+            String cursor,
+            @RequestParam(defaultValue = "20")
+            @Parameter(description = "Number of items per page (max 100)", example = "20")
+            int size,
+            @RequestParam(defaultValue = "false")
+            @Parameter(description = "Also count all items, which costs an extra query")
+            boolean includeTotal) {
+        CursorPageResponse<NotificationResponse> response = notificationService.getMyNotificationsPage(cursor, size, includeTotal);
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
+    /**
+     * Stream new notifications as Server-Sent Events
+     * GET /api/notifications/stream
+     */
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "Stream notifications",
+            description = "Push new notifications as they arrive; send Last-Event-ID to resume after a reconnect")
+    public SseEmitter streamNotifications(
+            @RequestHeader(value = "Last-Event-ID", required = false) Long lastEventId) {
+        return notificationService.streamNotifications(lastEventId);
+    }
+
     /**
      * Get unread notifications only
      * GET /api/notifications/unread
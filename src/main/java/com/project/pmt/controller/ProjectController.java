@@ -4,8 +4,12 @@ package com.project.pmt.controller;
 import com.project.pmt.dto.request.CreateProjectRequest;
 import com.project.pmt.dto.request.UpdateProjectRequest;
 import com.project.pmt.dto.response.ApiResponse;
+import com.project.pmt.dto.response.CumulativeFlowResponse;
+import com.project.pmt.dto.response.CycleTimeResponse;
 import com.project.pmt.dto.response.PageResponse;
 import com.project.pmt.dto.response.ProjectResponse;
+import com.project.pmt.paging.CountStrategy;
+import com.project.pmt.service.FlowAnalyticsService;
 import com.project.pmt.service.ProjectService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -18,11 +22,13 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDate;
 import java.util.List;
 
 /**
@@ -42,6 +48,7 @@ import java.util.List;
 public class ProjectController {
 
     private final ProjectService projectService;
+    private final FlowAnalyticsService flowAnalyticsService;
 
     /**
      * Create a new project
@@ -183,7 +190,11 @@ public class ProjectController {
 
             @RequestParam(defaultValue = "DESC")
             @Parameter(description = "Sort direction (ASC or DESC)", example = "DESC")
-            String sortDirection) {
+            String sortDirection,
+
+            @RequestParam(required = false)
+            @Parameter(description = "How to compute the total: EXACT, CACHED or ESTIMATED (default depends on the endpoint)")
+            CountStrategy count) {
 
         log.debug("REST Request: Get paginated projects - page: {}, size: {}, sortBy: {}, direction: {}",
                 page, size, sortBy, sortDirection);
@@ -193,7 +204,7 @@ public class ProjectController {
                 : Sort.Direction.DESC;
         Pageable pageable = PageRequest.of(page, size, Sort.by(direction, sortBy));
 
-        PageResponse<ProjectResponse> response = projectService.getAllProjectsPaginated(pageable);
+        PageResponse<ProjectResponse> response = projectService.getAllProjectsPaginated(pageable, count);
         log.debug("REST Response: Retrieved page {} of {} with {} projects",
                 response.getPageNumber(), response.getTotalPages(), response.getContent().size());
 
@@ -250,11 +261,15 @@ public class ProjectController {
 
             @RequestParam(defaultValue = "20")
             @Parameter(description = "Page size", example = "20")
-            int size) {
+            int size,
+
+            @RequestParam(required = false)
+            @Parameter(description = "How to compute the total: EXACT, CACHED or ESTIMATED (default depends on the endpoint)")
+            CountStrategy count) {
 
         log.debug("REST Request: Search projects with query: '{}', page: {}, size: {}", q, page, size);
         Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "createdAt"));
-        PageResponse<ProjectResponse> response = projectService.searchProjects(q, pageable);
+        PageResponse<ProjectResponse> response = projectService.searchProjects(q, pageable, count);
         log.debug("REST Response: Found {} projects matching '{}'", response.getTotalElements(), q);
 
         return ResponseEntity.ok(ApiResponse.success(response));
@@ -531,4 +546,56 @@ public class ProjectController {
 
         return ResponseEntity.ok(ApiResponse.success(isLead));
     }
-}
\ No newline at end of file
+
+    /**
+     * Issues per status at the end of each day
+     * GET /api/projects/{id}/cumulative-flow?from=2025-01-01&to=2025-12-31
+     */
+    @GetMapping("/{id}/cumulative-flow")
+    @Operation(summary = "Get cumulative flow", description = "Issues in each status at the end of every day in the range (default: last 90 days)")
+    public ResponseEntity<ApiResponse<CumulativeFlowResponse>> getCumulativeFlow(
+            @PathVariable
+            @Parameter(description = "Project ID", required = true)
+            Long id,
+
+            @RequestParam(required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+            @Parameter(description = "First day of the range", example = "2025-01-01")
+            LocalDate from,
+
+            @RequestParam(required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+            @Parameter(description = "Last day of the range (default: today)", example = "2025-12-31")
+            LocalDate to) {
+
+        log.debug("REST Request: Get cumulative flow of project {} from {} to {}", id, from, to);
+        CumulativeFlowResponse response = flowAnalyticsService.getCumulativeFlow(id, from, to);
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
+    /**
+     * Lead and cycle time percentiles of issues completed in a range
+     * GET /api/projects/{id}/cycle-time?from=2025-01-01&to=2025-12-31
+     */
+    @GetMapping("/{id}/cycle-time")
+    @Operation(summary = "Get cycle time", description = "Lead and cycle time percentiles of issues completed in the range (default: last 90 days)")
+    public ResponseEntity<ApiResponse<CycleTimeResponse>> getCycleTime(
+            @PathVariable
+            @Parameter(description = "Project ID", required = true)
+            Long id,
+
+            @RequestParam(required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+            @Parameter(description = "First completion day of the range", example = "2025-01-01")
+            LocalDate from,
+
+            @RequestParam(required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+            @Parameter(description = "Last completion day of the range (default: today)", example = "2025-12-31")
+            LocalDate to) {
+
+        log.debug("REST Request: Get cycle time of project {} from {} to {}", id, from, to);
+        CycleTimeResponse response = flowAnalyticsService.getCycleTime(id, from, to);
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+}
@@ -0,0 +1,43 @@
+package com.project.pmt.controller;
+
+import com.project.pmt.dto.response.ApiResponse;
+import com.project.pmt.dto.response.QuickFindResponse;
+import com.project.pmt.service.QuickFindService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * Search Controller
+ * Handles cross-entity lookups such as the search box typeahead
+ */
+@RestController
+@RequestMapping("/search")
+@RequiredArgsConstructor
+@SecurityRequirement(name = "bearer-jwt")
+@Tag(name = "Search", description = "Search endpoints")
+public class SearchController {
+
+    private final QuickFindService quickFindService;
+
+    /**
+     * Typeahead lookup of issues and projects
+     * GET /api/search/quick?q=PROJ-12
+     */
+    @GetMapping("/quick")
+    @Operation(summary = "Quick find", description = "Top issues and projects matching a partial key or title")
+    public ResponseEntity<ApiResponse<QuickFindResponse>> quickFind(
+            @RequestParam("q")
+            @Parameter(description = "Partial issue key, project key or title", example = "PROJ-12")
+            String query,
+            @RequestParam(defaultValue = "10")
+            @Parameter(description = "Maximum results per kind", example = "10")
+            int limit) {
+        QuickFindResponse response = quickFindService.quickFind(query, limit);
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+}
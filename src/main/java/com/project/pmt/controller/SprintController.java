@@ -3,9 +3,13 @@ package com.project.pmt.controller;
 import com.project.pmt.dto.request.CreateSprintRequest;
 import com.project.pmt.dto.request.UpdateSprintRequest;
 import com.project.pmt.dto.response.ApiResponse;
+import com.project.pmt.dto.response.SprintBurndownResponse;
 import com.project.pmt.dto.response.SprintResponse;
+import com.project.pmt.dto.response.VelocityResponse;
+import com.project.pmt.service.SprintAnalyticsService;
 import com.project.pmt.service.SprintService;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
@@ -29,6 +33,7 @@ import java.util.List;
 public class SprintController {
 
     private final SprintService sprintService;
+    private final SprintAnalyticsService sprintAnalyticsService;
 
     /**
      * Create a new sprint
@@ -127,5 +132,30 @@ public class SprintController {
         sprintService.deleteSprint(id);
         return ResponseEntity.ok(ApiResponse.success("Sprint deleted successfully", null));
     }
-}
 
+    /**
+     * Daily burndown and burnup series of a sprint
+     * GET /api/sprints/{id}/burndown
+     */
+    @GetMapping("/{id}/burndown")
+    @Operation(summary = "Get sprint burndown", description = "Daily remaining, completed and total work of a sprint, with scope changes")
+    public ResponseEntity<ApiResponse<SprintBurndownResponse>> getBurndown(@PathVariable Long id) {
+        SprintBurndownResponse response = sprintAnalyticsService.getBurndown(id);
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
+    /**
+     * Rolling velocity over a project's last completed sprints
+     * GET /api/sprints/project/{projectId}/velocity?sprints=5
+     */
+    @GetMapping("/project/{projectId}/velocity")
+    @Operation(summary = "Get project velocity", description = "Work completed in the last completed sprints and its average")
+    public ResponseEntity<ApiResponse<VelocityResponse>> getVelocity(
+            @PathVariable Long projectId,
+            @RequestParam(defaultValue = "5")
+            @Parameter(description = "Number of completed sprints to average (max 50)", example = "5")
+            int sprints) {
+        VelocityResponse response = sprintAnalyticsService.getVelocity(projectId, sprints);
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+}
@@ -0,0 +1,33 @@
+package com.project.pmt.dto.projection;
+
+import com.project.pmt.enums.IssueStatus;
+import com.project.pmt.enums.IssueType;
+import com.project.pmt.enums.Priority;
+
+/**
+ * Columns of an issue needed to draw its board card
+ */
+public interface BoardCardView {
+
+    Long getId();
+
+    String getIssueKey();
+
+    String getTitle();
+
+    IssueType getType();
+
+    Priority getPriority();
+
+    IssueStatus getStatus();
+
+    String getBoardRank();
+
+    Long getSprintId();
+
+    Long getAssigneeId();
+
+    String getAssigneeName();
+
+    String getAssigneeAvatarUrl();
+}
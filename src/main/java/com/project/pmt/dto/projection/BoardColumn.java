@@ -0,0 +1,13 @@
+package com.project.pmt.dto.projection;
+
+import com.project.pmt.enums.IssueStatus;
+
+/**
+ * One board column, identified by project and status
+ */
+public interface BoardColumn {
+
+    Long getProjectId();
+
+    IssueStatus getStatus();
+}
@@ -0,0 +1,15 @@
+package com.project.pmt.dto.projection;
+
+import com.project.pmt.enums.IssueStatus;
+
+/**
+ * Column and rank of one card on a board
+ */
+public interface BoardPosition {
+
+    Long getProjectId();
+
+    IssueStatus getStatus();
+
+    String getBoardRank();
+}
@@ -0,0 +1,13 @@
+package com.project.pmt.dto.projection;
+
+/**
+ * Comment and attachment totals for one issue, loaded in a single aggregate query
+ */
+public interface IssueActivityCount {
+
+    Long getIssueId();
+
+    Long getCommentCount();
+
+    Long getAttachmentCount();
+}
@@ -0,0 +1,11 @@
+package com.project.pmt.dto.projection;
+
+/**
+ * Number of issues assigned to one sprint, loaded in a single grouped query
+ */
+public interface SprintIssueCount {
+
+    Long getSprintId();
+
+    Long getIssueCount();
+}
@@ -0,0 +1,34 @@
+package com.project.pmt.dto.request;
+
+import com.project.pmt.enums.IssueStatus;
+import com.project.pmt.enums.Priority;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Set;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class BulkUpdateIssuesRequest {
+    @NotEmpty(message = "At least one issue is required")
+    @Size(max = 1000, message = "At most 1000 issues can be updated at once")
+    private Set<Long> issueIds;
+
+    private IssueStatus status;
+
+    private Priority priority;
+
+    private Long assigneeId;
+
+    private Long sprintId;
+
+    private Set<Long> addLabelIds;
+
+    private Set<Long> removeLabelIds;
+}
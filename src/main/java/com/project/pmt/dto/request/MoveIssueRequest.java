@@ -0,0 +1,23 @@
+package com.project.pmt.dto.request;
+
+import com.project.pmt.enums.IssueStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class MoveIssueRequest {
+
+    // Target column; null keeps the current status
+    private IssueStatus status;
+
+    // Card directly above the drop position; null when dropped at the top
+    private Long previousIssueId;
+
+    // Card directly below the drop position; null when dropped at the bottom
+    private Long nextIssueId;
+}
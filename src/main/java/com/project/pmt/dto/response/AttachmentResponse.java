@@ -22,6 +22,8 @@ public class AttachmentResponse {
 
     private Long size;
 
+    private String sha256;
+
     private UserResponse uploadedBy;
 
     private Long issueId;
@@ -0,0 +1,36 @@
+package com.project.pmt.dto.response;
+
+import com.project.pmt.enums.IssueStatus;
+import com.project.pmt.enums.IssueType;
+import com.project.pmt.enums.Priority;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class BoardCardResponse {
+
+    private Long id;
+
+    private String issueKey;
+
+    private String title;
+
+    private IssueType type;
+
+    private Priority priority;
+
+    private IssueStatus status;
+
+    private String boardRank;
+
+    private Long assigneeId;
+
+    private String assigneeName;
+
+    private String assigneeAvatarUrl;
+}
@@ -0,0 +1,22 @@
+package com.project.pmt.dto.response;
+
+import com.project.pmt.enums.IssueStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class BoardColumnResponse {
+
+    private IssueStatus status;
+
+    private String displayName;
+
+    private List<BoardCardResponse> cards;
+}
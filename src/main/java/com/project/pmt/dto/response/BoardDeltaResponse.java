@@ -0,0 +1,32 @@
+package com.project.pmt.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class BoardDeltaResponse {
+
+    private Long projectId;
+
+    private Long sprintId;
+
+    private Long fromVersion;
+
+    private Long version;
+
+    /** The changes since fromVersion are no longer available; reload the whole board */
+    private boolean reloadRequired;
+
+    /** Current state of cards that were created or changed, to be placed by status and rank */
+    private List<BoardCardResponse> changed;
+
+    /** Cards that were deleted or left the board */
+    private List<Long> removed;
+}
@@ -0,0 +1,23 @@
+package com.project.pmt.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class BoardResponse {
+
+    private Long projectId;
+
+    private Long sprintId;
+
+    private Long version;
+
+    private List<BoardColumnResponse> columns;
+}
@@ -0,0 +1,22 @@
+package com.project.pmt.dto.response;
+
+import com.project.pmt.enums.IssueStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class CumulativeFlowDayResponse {
+
+    private LocalDate day;
+
+    /** Issues in each status at the end of the day */
+    private Map<IssueStatus, Long> counts;
+}
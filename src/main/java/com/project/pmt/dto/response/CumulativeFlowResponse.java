@@ -0,0 +1,24 @@
+package com.project.pmt.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class CumulativeFlowResponse {
+
+    private Long projectId;
+
+    private LocalDate from;
+
+    private LocalDate to;
+
+    private List<CumulativeFlowDayResponse> days;
+}
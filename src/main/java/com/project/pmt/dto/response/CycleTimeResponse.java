@@ -0,0 +1,29 @@
+package com.project.pmt.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class CycleTimeResponse {
+
+    private Long projectId;
+
+    private LocalDate from;
+
+    private LocalDate to;
+
+    private Long completedIssues;
+
+    /** Hours from creation to done */
+    private PercentilesResponse leadTimeHours;
+
+    /** Hours from first start of work to done; issues done without being started are left out */
+    private PercentilesResponse cycleTimeHours;
+}
@@ -45,6 +45,8 @@ public class IssueResponse {
 
     private Integer boardOrder;
 
+    private String boardRank;
+
     private Set<LabelResponse> labels;
 
     private Long commentCount;
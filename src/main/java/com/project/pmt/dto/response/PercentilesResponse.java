@@ -0,0 +1,21 @@
+package com.project.pmt.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class PercentilesResponse {
+
+    private Double average;
+
+    private Double p50;
+
+    private Double p85;
+
+    private Double p95;
+}
@@ -1,11 +1,13 @@
 package com.project.pmt.dto.response;
 
+import com.project.pmt.enums.IssueStatus;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
+import java.util.Map;
 import java.util.Set;
 
 @Data
@@ -29,8 +31,16 @@ public class ProjectResponse {
 
     private Set<UserResponse> members;
 
+    private Long memberCount;
+
     private Long issueCount;
 
+    private Map<IssueStatus, Long> issueCountsByStatus;
+
+    private Long activeSprintId;
+
+    private String activeSprintName;
+
     private LocalDateTime createdAt;
 
     private LocalDateTime updatedAt;
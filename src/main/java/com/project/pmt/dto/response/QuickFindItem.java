@@ -0,0 +1,21 @@
+package com.project.pmt.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class QuickFindItem {
+
+    private Long id;
+
+    private String key;
+
+    private String title;
+
+    private Double score;
+}
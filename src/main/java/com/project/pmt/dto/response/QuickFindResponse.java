@@ -0,0 +1,22 @@
+package com.project.pmt.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class QuickFindResponse {
+
+    private List<QuickFindItem> issues;
+
+    private List<QuickFindItem> projects;
+
+    // True when the lookup ran out of its time budget and returned no matches
+    private boolean timedOut;
+}
@@ -0,0 +1,30 @@
+package com.project.pmt.dto.response;
+
+import com.project.pmt.enums.SprintState;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class SprintBurndownResponse {
+
+    private Long sprintId;
+
+    private String sprintName;
+
+    private SprintState state;
+
+    private LocalDate startDate;
+
+    private LocalDate endDate;
+
+    /** One entry per day; remaining values draw the burndown, completed against total the burnup */
+    private List<SprintDayResponse> days;
+}
@@ -0,0 +1,36 @@
+package com.project.pmt.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class SprintDayResponse {
+
+    private LocalDate day;
+
+    private Integer issueCount;
+
+    private Integer doneCount;
+
+    private Integer remainingCount;
+
+    private Integer totalHours;
+
+    private Integer completedHours;
+
+    private Integer remainingHours;
+
+    /** Remaining hours on a straight line from the first day to zero at the sprint end date */
+    private Double idealRemainingHours;
+
+    private Integer scopeAdded;
+
+    private Integer scopeRemoved;
+}
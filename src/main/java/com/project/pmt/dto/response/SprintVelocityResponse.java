@@ -0,0 +1,29 @@
+package com.project.pmt.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class SprintVelocityResponse {
+
+    private Long sprintId;
+
+    private String sprintName;
+
+    private LocalDate endDate;
+
+    private Integer issueCount;
+
+    private Integer completedIssues;
+
+    private Integer totalHours;
+
+    private Integer completedHours;
+}
@@ -0,0 +1,37 @@
+package com.project.pmt.dto.response;
+
+import com.project.pmt.enums.IssueStatus;
+import com.project.pmt.enums.Priority;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SystemStatsResponse {
+    private Long totalUsers;
+
+    private Long activeUsers;
+
+    private Long totalProjects;
+
+    private Long archivedProjects;
+
+    private Long totalIssues;
+
+    private Map<IssueStatus, Long> issuesByStatus;
+
+    private Map<Priority, Long> issuesByPriority;
+
+    private Long attachmentCount;
+
+    private Long storageBytes;
+
+    private LocalDateTime refreshedAt;
+}
@@ -0,0 +1,26 @@
+package com.project.pmt.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class VelocityResponse {
+
+    private Long projectId;
+
+    private Integer sprintCount;
+
+    private Double averageCompletedIssues;
+
+    private Double averageCompletedHours;
+
+    /** Most recently completed sprint first */
+    private List<SprintVelocityResponse> sprints;
+}
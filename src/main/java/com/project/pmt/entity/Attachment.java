@@ -33,6 +33,9 @@ public class Attachment extends AuditEntity{
     @Column(nullable=false)
     private Long size;
 
+    @Column(length=64)
+    private String sha256;
+
     @ManyToOne(fetch=FetchType.LAZY)
     @JoinColumn(name="uploaded_by", nullable=false)
     private User uploadedBy;
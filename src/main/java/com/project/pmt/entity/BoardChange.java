@@ -0,0 +1,42 @@
+package com.project.pmt.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * One issue touched by the board version that recorded it.
+ * Written by BoardVersionService alongside every version bump and compacted periodically.
+ */
+@Entity
+@Table(name="board_changes", indexes={
+        @Index(name="index_board_change_project_version", columnList= "project_id, version"),
+        @Index(name="index_board_change_project_issue", columnList= "project_id, issue_id, version"),
+        @Index(name="index_board_change_created", columnList= "created_at")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class BoardChange {
+
+    @Id
+    @GeneratedValue(strategy= GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name="project_id", nullable=false)
+    private Long projectId;
+
+    @Column(nullable=false)
+    private Long version;
+
+    @Column(name="issue_id", nullable=false)
+    private Long issueId;
+
+    @Column(name="created_at", nullable=false)
+    private LocalDateTime createdAt;
+}
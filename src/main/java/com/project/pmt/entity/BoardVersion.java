@@ -0,0 +1,31 @@
+package com.project.pmt.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Version of a project's board, bumped in the same transaction as every issue change.
+ * Advanced by BoardVersionService with an upsert, never through the entity.
+ */
+@Entity
+@Table(name="board_versions")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class BoardVersion {
+
+    @Id
+    @Column(name="project_id")
+    private Long projectId;
+
+    @Column(nullable=false)
+    private Long version;
+
+    /** Changes up to this version were compacted away; older clients must reload the board */
+    @Column(nullable=false)
+    private Long compactedVersion;
+}
@@ -10,7 +10,9 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name="comments")
+@Table(name="comments", indexes={
+        @Index(name="index_comment_issue_id", columnList= "issue_id, id")
+})
 @AllArgsConstructor
 @NoArgsConstructor
 @Setter
@@ -8,6 +8,7 @@ import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.BatchSize;
 
 import java.time.LocalDateTime;
 import java.util.HashSet;
@@ -16,8 +17,12 @@ import java.util.Set;
 @Entity
 @Table(name="issues", indexes={
         @Index(name="index_issue_project", columnList= "project_id"),
+        @Index(name="index_issue_project_id", columnList= "project_id, id"),
         @Index(name="index_issue_assignee", columnList= "assignee_id"),
-        @Index(name="index_issue_status", columnList= "status")
+        @Index(name="index_issue_sprint", columnList= "sprint_id"),
+        @Index(name="index_issue_status", columnList= "status"),
+        @Index(name="index_issue_key", columnList= "issue_key", unique = true),
+        @Index(name="index_issue_board_rank", columnList= "project_id, status, board_rank")
 })
 @Getter
 @Setter
@@ -76,6 +81,10 @@ public class Issue extends AuditEntity {
     @Column(nullable=false)
     private Integer boardOrder = 0;
 
+    // Lexicographic position within the board column; "C" collation keeps byte-wise ordering
+    @Column(columnDefinition = "VARCHAR(255) COLLATE \"C\"")
+    private String boardRank;
+
     @OneToMany(mappedBy= "issue", cascade = CascadeType.ALL, orphanRemoval = true)
     private Set<Comment> comments = new HashSet<>();
 
@@ -83,6 +92,7 @@ public class Issue extends AuditEntity {
     private Set<Attachment> attachments = new HashSet<>();
 
     @ManyToMany
+    @BatchSize(size = 100)
     @JoinTable(
             name= "issue_labels",
             joinColumns = @JoinColumn(name="issue_id"),
@@ -0,0 +1,40 @@
+package com.project.pmt.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * Lead and cycle time of an issue that is currently done, taken from its transitions.
+ * Lead time runs from creation and cycle time from the first move to IN_PROGRESS, both to the last move to DONE.
+ * Maintained by IssueTransitionWriter, never written through the entity.
+ */
+@Entity
+@Table(name="issue_cycle_times", indexes={
+        @Index(name="index_issue_cycle_time_project", columnList= "project_id, completed_at")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class IssueCycleTime {
+
+    @Id
+    @Column(name="issue_id")
+    private Long issueId;
+
+    @Column(name="project_id", nullable=false)
+    private Long projectId;
+
+    @Column(name="completed_at", nullable=false)
+    private LocalDateTime completedAt;
+
+    @Column(nullable=false)
+    private Double leadTimeHours;
+
+    private Double cycleTimeHours;
+}
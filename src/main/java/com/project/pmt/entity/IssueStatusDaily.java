@@ -0,0 +1,45 @@
+package com.project.pmt.entity;
+
+import com.project.pmt.enums.IssueStatus;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDate;
+
+/**
+ * Issues that entered and left a status in a project on one day, summed from issue_transitions.
+ * Maintained by IssueTransitionWriter, never written through the entity.
+ */
+@Entity
+@Table(name="issue_status_daily", uniqueConstraints={
+        @UniqueConstraint(name="unique_issue_status_daily", columnNames={"project_id", "day", "status"})
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class IssueStatusDaily {
+
+    @Id
+    @GeneratedValue(strategy= GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name="project_id", nullable=false)
+    private Long projectId;
+
+    @Column(nullable=false)
+    private LocalDate day;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable=false, length=20)
+    private IssueStatus status;
+
+    @Column(nullable=false)
+    private Integer entered;
+
+    @Column(nullable=false)
+    private Integer exited;
+}
@@ -0,0 +1,51 @@
+package com.project.pmt.entity;
+
+import com.project.pmt.enums.IssueStatus;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * Append-only log of issue status changes.
+ * fromStatus is null when the issue was created and toStatus is null when it was deleted.
+ * Written in batches by IssueTransitionWriter, never through the entity.
+ */
+@Entity
+@Table(name="issue_transitions", indexes={
+        @Index(name="index_issue_transition_issue", columnList= "issue_id, transitioned_at"),
+        @Index(name="index_issue_transition_project", columnList= "project_id, transitioned_at")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class IssueTransition {
+
+    @Id
+    @GeneratedValue(strategy= GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name="issue_id", nullable=false)
+    private Long issueId;
+
+    @Column(name="project_id", nullable=false)
+    private Long projectId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(length=20)
+    private IssueStatus fromStatus;
+
+    @Enumerated(EnumType.STRING)
+    @Column(length=20)
+    private IssueStatus toStatus;
+
+    @Column(name="transitioned_at", nullable=false)
+    private LocalDateTime transitionedAt;
+
+    @Column(name="user_id")
+    private Long userId;
+}
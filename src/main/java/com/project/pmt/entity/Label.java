@@ -5,11 +5,15 @@ import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.util.HashSet;
 import java.util.Set;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Table(name="labels")
 @NoArgsConstructor
 @AllArgsConstructor
@@ -18,6 +22,7 @@ import java.util.Set;
 public class Label extends AuditEntity{
 
     @GeneratedValue(strategy= GenerationType.IDENTITY)
+    @Id
     private Long id;
 
     @Column(nullable=false,unique=true, length=50)
@@ -10,7 +10,9 @@ import lombok.Setter;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name="notifications")
+@Table(name="notifications", indexes={
+        @Index(name="index_notification_user_created", columnList= "user_id, created_at, id")
+})
 @AllArgsConstructor
 @NoArgsConstructor
 @Setter
@@ -0,0 +1,27 @@
+package com.project.pmt.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Last issue number handed out for a project.
+ * Advanced in blocks by IssueKeyAllocator with UPDATE ... RETURNING, never through the entity.
+ */
+@Entity
+@Table(name="project_issue_sequences")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProjectIssueSequence {
+
+    @Id
+    @Column(name="project_id")
+    private Long projectId;
+
+    @Column(nullable=false)
+    private Long lastValue;
+}
@@ -0,0 +1,55 @@
+package com.project.pmt.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * Denormalized summary of a project for list views.
+ * Recomputed by ProjectStatsService after issue, member and sprint changes, never written through the entity.
+ */
+@Entity
+@Table(name="project_stats")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProjectStats {
+
+    @Id
+    @Column(name="project_id")
+    private Long projectId;
+
+    @Column(nullable=false)
+    private Long issueCount;
+
+    @Column(nullable=false)
+    private Long todoCount;
+
+    @Column(nullable=false)
+    private Long inProgressCount;
+
+    @Column(nullable=false)
+    private Long inReviewCount;
+
+    @Column(nullable=false)
+    private Long doneCount;
+
+    @Column(nullable=false)
+    private Long blockedCount;
+
+    @Column(nullable=false)
+    private Long memberCount;
+
+    private Long activeSprintId;
+
+    @Column(length=100)
+    private String activeSprintName;
+
+    @Column(nullable=false)
+    private LocalDateTime refreshedAt;
+}
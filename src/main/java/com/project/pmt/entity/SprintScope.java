@@ -0,0 +1,35 @@
+package com.project.pmt.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Last state of an issue as seen by the sprint analytics, used to detect scope changes.
+ * Maintained by SprintAnalyticsService, never written through the entity.
+ */
+@Entity
+@Table(name="sprint_scope", indexes={
+        @Index(name="index_sprint_scope_sprint", columnList= "sprint_id")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class SprintScope {
+
+    @Id
+    @Column(name="issue_id")
+    private Long issueId;
+
+    @Column(name="sprint_id", nullable=false)
+    private Long sprintId;
+
+    @Column(nullable=false)
+    private Integer estimatedHours;
+
+    @Column(nullable=false)
+    private Boolean done;
+}
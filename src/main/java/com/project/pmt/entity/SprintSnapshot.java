@@ -0,0 +1,52 @@
+package com.project.pmt.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDate;
+
+/**
+ * State of a sprint at the end of one day, plus the scope that entered or left it that day.
+ * Maintained by SprintAnalyticsService, never written through the entity.
+ */
+@Entity
+@Table(name="sprint_snapshots", uniqueConstraints={
+        @UniqueConstraint(name="unique_sprint_snapshot_day", columnNames={"sprint_id", "day"})
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class SprintSnapshot {
+
+    @Id
+    @GeneratedValue(strategy= GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name="sprint_id", nullable=false)
+    private Long sprintId;
+
+    @Column(nullable=false)
+    private LocalDate day;
+
+    @Column(nullable=false)
+    private Integer issueCount;
+
+    @Column(nullable=false)
+    private Integer doneCount;
+
+    @Column(nullable=false)
+    private Integer totalHours;
+
+    @Column(nullable=false)
+    private Integer remainingHours;
+
+    @Column(nullable=false)
+    private Integer scopeAdded;
+
+    @Column(nullable=false)
+    private Integer scopeRemoved;
+}
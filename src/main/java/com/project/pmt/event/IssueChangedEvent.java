@@ -0,0 +1,24 @@
+package com.project.pmt.event;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Issues that were created, updated or deleted, grouped by the project they belong to.
+ * Published by IssueService inside the writing transaction; listeners that need committed data
+ * should use a TransactionalEventListener.
+ */
+public record IssueChangedEvent(Map<Long, Set<Long>> issueIdsByProject) {
+
+    public Set<Long> issueIds() {
+        return issueIdsByProject.values().stream()
+                .flatMap(Collection::stream)
+                .collect(Collectors.toSet());
+    }
+
+    public Set<Long> projectIds() {
+        return issueIdsByProject.keySet();
+    }
+}
@@ -0,0 +1,19 @@
+package com.project.pmt.event;
+
+import com.project.pmt.enums.IssueStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * An issue moved between statuses; fromStatus is null on creation and toStatus is null on deletion.
+ * Published by IssueService and written to the transition log in batches after the publishing transaction commits.
+ */
+public record IssueTransitionEvent(
+        Long issueId,
+        Long projectId,
+        IssueStatus fromStatus,
+        IssueStatus toStatus,
+        LocalDateTime at,
+        Long userId
+) {
+}
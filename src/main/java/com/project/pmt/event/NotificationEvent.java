@@ -0,0 +1,19 @@
+package com.project.pmt.event;
+
+import com.project.pmt.enums.NotificationType;
+
+import java.time.LocalDateTime;
+
+/**
+ * A notification that should be stored for a user.
+ * Published by NotificationService and persisted asynchronously after the publishing transaction commits.
+ */
+public record NotificationEvent(
+        Long userId,
+        NotificationType type,
+        String message,
+        String link,
+        Long issueId,
+        LocalDateTime createdAt
+) {
+}
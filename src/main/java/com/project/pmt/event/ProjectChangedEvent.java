@@ -0,0 +1,8 @@
+package com.project.pmt.event;
+
+/**
+ * A project, its members or its sprints were created, updated or deleted.
+ * Published by ProjectService and SprintService so project read models can refresh after commit.
+ */
+public record ProjectChangedEvent(Long projectId) {
+}
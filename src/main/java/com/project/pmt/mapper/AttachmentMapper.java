@@ -20,6 +20,7 @@ public class AttachmentMapper {
                 .url(attachment.getUrl())
                 .contentType(attachment.getContentType())
                 .size(attachment.getSize())
+                .sha256(attachment.getSha256())
                 .uploadedBy(userMapper.toResponse(attachment.getUploadedBy()))
                 .issueId(attachment.getIssue().getId())
                 .createdAt(attachment.getCreatedAt())
@@ -1,12 +1,17 @@
 package com.project.pmt.mapper;
 
+import com.project.pmt.dto.projection.IssueActivityCount;
 import com.project.pmt.dto.response.IssueResponse;
 import com.project.pmt.dto.response.PageResponse;
+import com.project.pmt.dto.response.SprintResponse;
 import com.project.pmt.entity.Issue;
+import com.project.pmt.entity.Sprint;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Component
@@ -22,6 +27,38 @@ public class IssueMapper {
             return null;
         }
 
+        return toResponse(
+                issue,
+                sprintMapper.toResponse(issue.getSprint()),
+                (long) issue.getComments().size(),
+                (long) issue.getAttachments().size()
+        );
+    }
+
+    /**
+     * Map an issue using counts loaded in bulk by the list read path.
+     * Issues missing from the count maps are reported with zero counts.
+     */
+    public IssueResponse toResponse(
+            Issue issue,
+            Map<Long, IssueActivityCount> activityCounts,
+            Map<Long, Long> sprintIssueCounts) {
+        if (issue == null) {
+            return null;
+        }
+
+        IssueActivityCount activity = activityCounts.get(issue.getId());
+        Sprint sprint = issue.getSprint();
+
+        return toResponse(
+                issue,
+                sprint != null ? sprintMapper.toResponse(sprint, sprintIssueCounts.getOrDefault(sprint.getId(), 0L)) : null,
+                activity != null ? activity.getCommentCount() : 0L,
+                activity != null ? activity.getAttachmentCount() : 0L
+        );
+    }
+
+    private IssueResponse toResponse(Issue issue, SprintResponse sprint, Long commentCount, Long attachmentCount) {
         return IssueResponse.builder()
                 .id(issue.getId())
                 .issueKey(issue.getIssueKey())
@@ -32,16 +69,17 @@ public class IssueMapper {
                 .status(issue.getStatus())
                 .reporter(userMapper.toResponse(issue.getReporter()))
                 .assignee(userMapper.toResponse(issue.getAssignee()))
-                .sprint(sprintMapper.toResponse(issue.getSprint()))
+                .sprint(sprint)
                 .dueDate(issue.getDueDate())
                 .estimatedHours(issue.getEstimatedHours())
                 .loggedHours(issue.getLoggedHours())
                 .boardOrder(issue.getBoardOrder())
+                .boardRank(issue.getBoardRank())
                 .labels(issue.getLabels().stream()
                         .map(labelMapper::toResponse)
                         .collect(Collectors.toSet()))
-                .commentCount((long) issue.getComments().size())
-                .attachmentCount((long) issue.getAttachments().size())
+                .commentCount(commentCount)
+                .attachmentCount(attachmentCount)
                 .parentIssue(toSimpleResponse(issue.getParentIssue()))
                 .createdAt(issue.getCreatedAt())
                 .updatedAt(issue.getUpdatedAt())
@@ -64,10 +102,14 @@ public class IssueMapper {
     }
 
     public PageResponse<IssueResponse> toPageResponse(Page<Issue> page) {
+        return toPageResponse(page, page.getContent().stream()
+                .map(this::toResponse)
+                .collect(Collectors.toList()));
+    }
+
+    public PageResponse<IssueResponse> toPageResponse(Page<Issue> page, List<IssueResponse> content) {
         return PageResponse.<IssueResponse>builder()
-                .content(page.getContent().stream()
-                        .map(this::toResponse)
-                        .collect(Collectors.toList()))
+                .content(content)
                 .pageNumber(page.getNumber())
                 .pageSize(page.getSize())
                 .totalElements(page.getTotalElements())
@@ -3,10 +3,14 @@ package com.project.pmt.mapper;
 import com.project.pmt.dto.response.PageResponse;
 import com.project.pmt.dto.response.ProjectResponse;
 import com.project.pmt.entity.Project;
+import com.project.pmt.entity.ProjectStats;
+import com.project.pmt.enums.IssueStatus;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.stereotype.Component;
 
+import java.util.EnumMap;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Component
@@ -14,7 +18,26 @@ import java.util.stream.Collectors;
 public class ProjectMapper {
     private final UserMapper userMapper;
 
-    public ProjectResponse toResponse(Project project){
+    /**
+     * Full project with its members; counts come from the stats read model
+     */
+    public ProjectResponse toResponse(Project project, ProjectStats stats){
+        if(project == null){
+            return null;
+        }
+        ProjectResponse response = toSummaryResponse(project, stats);
+        response.setMembers(project.getMembers().stream()
+                .map(userMapper::toResponse)
+                .collect(Collectors.toSet()));
+        response.setMemberCount((long) project.getMembers().size());
+        return response;
+    }
+
+    /**
+     * Project for list views, without members, so neither the members nor the issues are loaded.
+     * Counts are zero until the stats read model has summarized the project.
+     */
+    public ProjectResponse toSummaryResponse(Project project, ProjectStats stats){
         if(project == null){
             return null;
         }
@@ -26,20 +49,21 @@ public class ProjectMapper {
                 .lead(userMapper.toResponse(project.getLead()))
                 .iconUrl(project.getIconUrl())
                 .archived(project.getArchived())
-                .members(project.getMembers().stream()
-                        .map(userMapper::toResponse)
-                        .collect(Collectors.toSet()))
-                .issueCount((long) project.getIssues().size())
+                .memberCount(stats != null ? stats.getMemberCount() : 0L)
+                .issueCount(stats != null ? stats.getIssueCount() : 0L)
+                .issueCountsByStatus(toIssueCountsByStatus(stats))
+                .activeSprintId(stats != null ? stats.getActiveSprintId() : null)
+                .activeSprintName(stats != null ? stats.getActiveSprintName() : null)
                 .createdAt(project.getCreatedAt())
                 .updatedAt(project.getUpdatedAt())
                 .build();
     }
 
 
-    public PageResponse<ProjectResponse> toPageResponse(Page<Project> page) {
+    public PageResponse<ProjectResponse> toPageResponse(Page<Project> page, Map<Long, ProjectStats> stats) {
         return PageResponse.<ProjectResponse>builder()
                 .content(page.getContent().stream()
-                        .map(this::toResponse)
+                        .map(project -> toSummaryResponse(project, stats.get(project.getId())))
                         .collect(Collectors.toList()))
                 .pageNumber(page.getNumber())
                 .pageSize(page.getSize())
@@ -50,4 +74,14 @@ public class ProjectMapper {
                 .empty(page.isEmpty())
                 .build();
     }
+
+    private Map<IssueStatus, Long> toIssueCountsByStatus(ProjectStats stats) {
+        Map<IssueStatus, Long> counts = new EnumMap<>(IssueStatus.class);
+        counts.put(IssueStatus.TODO, stats != null ? stats.getTodoCount() : 0L);
+        counts.put(IssueStatus.IN_PROGRESS, stats != null ? stats.getInProgressCount() : 0L);
+        counts.put(IssueStatus.IN_REVIEW, stats != null ? stats.getInReviewCount() : 0L);
+        counts.put(IssueStatus.DONE, stats != null ? stats.getDoneCount() : 0L);
+        counts.put(IssueStatus.BLOCKED, stats != null ? stats.getBlockedCount() : 0L);
+        return counts;
+    }
 }
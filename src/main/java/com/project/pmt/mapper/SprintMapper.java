@@ -12,6 +12,16 @@ public class SprintMapper {
         if (sprint == null){
             return null;
         }
+        return toResponse(sprint, (long) sprint.getIssues().size());
+    }
+
+    /**
+     * Map a sprint with a precomputed issue count, so list views don't initialize the issues collection
+     */
+    public SprintResponse toResponse(Sprint sprint, Long issueCount){
+        if (sprint == null){
+            return null;
+        }
 
         return SprintResponse.builder()
                 .id(sprint.getId())
@@ -21,7 +31,7 @@ public class SprintMapper {
                 .endDate(sprint.getEndDate())
                 .state(sprint.getState())
                 .projectId(sprint.getProject().getId())
-                .issueCount((long) sprint.getIssues().size())
+                .issueCount(issueCount)
                 .createdAt(sprint.getCreatedAt())
                 .updatedAt(sprint.getUpdatedAt())
                 .build();
@@ -0,0 +1,44 @@
+package com.project.pmt.metrics;
+
+import org.hibernate.Interceptor;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.hibernate.type.Type;
+
+/**
+ * Hibernate hook that counts JDBC statements and loaded entity rows on the current thread.
+ * Counters only ever grow; callers take a snapshot before and after a unit of work
+ * and record the difference, so nested measurements never interfere with each other.
+ */
+public class QueryCounter implements StatementInspector, Interceptor {
+
+    private static final ThreadLocal<long[]> COUNTS = ThreadLocal.withInitial(() -> new long[2]);
+
+    private static final int STATEMENTS = 0;
+    private static final int ROWS = 1;
+
+    @Override
+    public String inspect(String sql) {
+        COUNTS.get()[STATEMENTS]++;
+        return sql;
+    }
+
+    @Override
+    public boolean onLoad(Object entity, Object id, Object[] state, String[] propertyNames, Type[] types) {
+        COUNTS.get()[ROWS]++;
+        return false;
+    }
+
+    /**
+     * Total statements prepared on this thread so far
+     */
+    public static long statements() {
+        return COUNTS.get()[STATEMENTS];
+    }
+
+    /**
+     * Total entity rows hydrated on this thread so far
+     */
+    public static long rows() {
+        return COUNTS.get()[ROWS];
+    }
+}
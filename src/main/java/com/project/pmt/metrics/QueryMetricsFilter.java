@@ -0,0 +1,57 @@
+package com.project.pmt.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * Records JDBC statements and loaded rows per HTTP request, tagged by route pattern
+ */
+@Component
+@RequiredArgsConstructor
+public class QueryMetricsFilter extends OncePerRequestFilter {
+
+    private final MeterRegistry meterRegistry;
+    private final QueryOffenderRegistry offenderRegistry;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        long statementsBefore = QueryCounter.statements();
+        long rowsBefore = QueryCounter.rows();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            long statements = QueryCounter.statements() - statementsBefore;
+            long rows = QueryCounter.rows() - rowsBefore;
+
+            // Use the matched pattern rather than the raw URI to keep tag cardinality bounded
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            String uri = pattern != null ? pattern.toString() : "UNKNOWN";
+
+            DistributionSummary.builder("pmt.http.jdbc.statements")
+                    .description("JDBC statements executed per HTTP request")
+                    .tag("method", request.getMethod())
+                    .tag("uri", uri)
+                    .register(meterRegistry)
+                    .record(statements);
+            DistributionSummary.builder("pmt.http.jdbc.rows")
+                    .description("Entity rows loaded per HTTP request")
+                    .tag("method", request.getMethod())
+                    .tag("uri", uri)
+                    .register(meterRegistry)
+                    .record(rows);
+
+            offenderRegistry.record(request.getMethod() + " " + uri, statements, rows);
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.project.pmt.metrics;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Aggregated query cost of one endpoint or service method
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class QueryOffender {
+
+    private String name;
+
+    private long invocations;
+
+    private double avgStatements;
+
+    private long maxStatements;
+
+    private double avgRows;
+}
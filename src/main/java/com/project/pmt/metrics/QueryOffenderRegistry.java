@@ -0,0 +1,63 @@
+package com.project.pmt.metrics;
+
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * Keeps running statement and row totals per endpoint and service method,
+ * so the worst N+1 offenders can be listed without querying the meter registry.
+ * Keys are route patterns and method signatures, so the map stays small.
+ */
+@Component
+public class QueryOffenderRegistry {
+
+    private final Map<String, Stats> stats = new ConcurrentHashMap<>();
+
+    public void record(String name, long statements, long rows) {
+        Stats entry = stats.computeIfAbsent(name, key -> new Stats());
+        entry.invocations.increment();
+        entry.statements.add(statements);
+        entry.rows.add(rows);
+        entry.maxStatements.accumulate(statements);
+    }
+
+    /**
+     * Entries with the highest average statement count per invocation first
+     */
+    public List<QueryOffender> top(int limit) {
+        return stats.entrySet().stream()
+                .map(entry -> entry.getValue().toOffender(entry.getKey()))
+                .sorted(Comparator.comparingDouble(QueryOffender::getAvgStatements).reversed())
+                .limit(limit)
+                .collect(Collectors.toList());
+    }
+
+    public void reset() {
+        stats.clear();
+    }
+
+    private static class Stats {
+        private final LongAdder invocations = new LongAdder();
+        private final LongAdder statements = new LongAdder();
+        private final LongAdder rows = new LongAdder();
+        private final LongAccumulator maxStatements = new LongAccumulator(Math::max, 0);
+
+        private QueryOffender toOffender(String name) {
+            long calls = Math.max(invocations.sum(), 1);
+            return QueryOffender.builder()
+                    .name(name)
+                    .invocations(invocations.sum())
+                    .avgStatements((double) statements.sum() / calls)
+                    .maxStatements(maxStatements.get())
+                    .avgRows((double) rows.sum() / calls)
+                    .build();
+        }
+    }
+}
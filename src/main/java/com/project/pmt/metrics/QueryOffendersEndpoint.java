@@ -0,0 +1,36 @@
+package com.project.pmt.metrics;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Actuator endpoint listing the endpoints and service methods with the most JDBC statements per call
+ * GET /actuator/queryoffenders?limit=20
+ */
+@Component
+@Endpoint(id = "queryoffenders")
+@RequiredArgsConstructor
+public class QueryOffendersEndpoint {
+
+    private final QueryOffenderRegistry offenderRegistry;
+
+    @Value("${metrics.query-offenders.limit:20}")
+    private int defaultLimit;
+
+    @ReadOperation
+    public List<QueryOffender> offenders(@Nullable Integer limit) {
+        return offenderRegistry.top(limit != null ? limit : defaultLimit);
+    }
+
+    @DeleteOperation
+    public void reset() {
+        offenderRegistry.reset();
+    }
+}
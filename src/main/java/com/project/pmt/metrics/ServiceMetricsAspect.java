@@ -0,0 +1,58 @@
+package com.project.pmt.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+
+/**
+ * Times every public service method and records how many JDBC statements it issued.
+ * Counts are inclusive of nested service calls.
+ */
+@Aspect
+@Component
+@RequiredArgsConstructor
+public class ServiceMetricsAspect {
+
+    private final MeterRegistry meterRegistry;
+    private final QueryOffenderRegistry offenderRegistry;
+
+    @Around("execution(public * com.project.pmt.service..*(..))")
+    public Object measure(ProceedingJoinPoint joinPoint) throws Throwable {
+        String serviceName = joinPoint.getSignature().getDeclaringType().getSimpleName();
+        String methodName = joinPoint.getSignature().getName();
+
+        long statementsBefore = QueryCounter.statements();
+        long rowsBefore = QueryCounter.rows();
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String exception = "none";
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable e) {
+            exception = e.getClass().getSimpleName();
+            throw e;
+        } finally {
+            sample.stop(Timer.builder("pmt.service.method")
+                    .description("Service method latency")
+                    .tag("service", serviceName)
+                    .tag("method", methodName)
+                    .tag("exception", exception)
+                    .register(meterRegistry));
+
+            long statements = QueryCounter.statements() - statementsBefore;
+            long rows = QueryCounter.rows() - rowsBefore;
+            DistributionSummary.builder("pmt.service.jdbc.statements")
+                    .description("JDBC statements executed per service method call")
+                    .tag("service", serviceName)
+                    .tag("method", methodName)
+                    .register(meterRegistry)
+                    .record(statements);
+
+            offenderRegistry.record(serviceName + "." + methodName, statements, rows);
+        }
+    }
+}
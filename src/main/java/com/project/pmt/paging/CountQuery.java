@@ -0,0 +1,23 @@
+package com.project.pmt.paging;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * The ways a listing's total can be obtained
+ * @param signature Identifies the listing and its filters; key of the cached total
+ * @param exact Runs the exact count
+ * @param estimateSql Native SELECT over the same rows, used for planner estimates; null if not available
+ * @param estimateArgs JDBC arguments of estimateSql
+ */
+public record CountQuery(String signature, Supplier<Long> exact, String estimateSql, List<Object> estimateArgs) {
+
+    public static CountQuery of(String signature, Supplier<Long> exact) {
+        return new CountQuery(signature, exact, null, List.of());
+    }
+
+    public CountQuery estimatedBy(String sql, Object... args) {
+        return new CountQuery(signature, exact, sql, Arrays.asList(args));
+    }
+}
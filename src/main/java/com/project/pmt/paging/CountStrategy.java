@@ -0,0 +1,13 @@
+package com.project.pmt.paging;
+
+/**
+ * How PageResponse totals are computed
+ */
+public enum CountStrategy {
+    /** Run COUNT(*) for every page */
+    EXACT,
+    /** Run COUNT(*) once per filter combination and reuse it for a short time */
+    CACHED,
+    /** Take the row estimate from the PostgreSQL planner; no rows are counted */
+    ESTIMATED
+}
@@ -0,0 +1,105 @@
+package com.project.pmt.paging;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Slice;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.time.Duration;
+
+/**
+ * Page Counter
+ * Turns a Slice (a page read without counting) into a Page whose total comes from the chosen
+ * CountStrategy. When the slice is the last page the total is known for free and nothing is counted.
+ * Each listing has a default strategy, paging.count.&lt;listing&gt;, which a request may override.
+ */
+@Component
+@Slf4j
+public class PageCounter {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final Environment environment;
+    private final Cache<String, Long> cachedTotals;
+
+    @Value("${paging.count.default:exact}")
+    private CountStrategy defaultStrategy;
+
+    public PageCounter(
+            JdbcTemplate jdbcTemplate,
+            ObjectMapper objectMapper,
+            Environment environment,
+            MeterRegistry meterRegistry,
+            @Value("${paging.count-cache.ttl:PT30S}") Duration ttl,
+            @Value("${paging.count-cache.maximum-size:10000}") long maximumSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+        this.environment = environment;
+        this.cachedTotals = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cachedTotals, "page.totals");
+    }
+
+    /**
+     * The requested strategy, or the listing's configured default
+     */
+    public CountStrategy strategyFor(String listing, CountStrategy requested) {
+        if (requested != null) {
+            return requested;
+        }
+        return environment.getProperty("paging.count." + listing, CountStrategy.class, defaultStrategy);
+    }
+
+    public <T> Page<T> toPage(Slice<T> slice, CountStrategy strategy, CountQuery query) {
+        long read = slice.getPageable().isPaged()
+                ? slice.getPageable().getOffset() + slice.getNumberOfElements()
+                : slice.getNumberOfElements();
+        if (!slice.hasNext() && (slice.hasContent() || slice.isFirst())) {
+            return new PageImpl<>(slice.getContent(), slice.getPageable(), read);
+        }
+
+        long total = switch (strategy) {
+            case EXACT -> query.exact().get();
+            case CACHED -> cached(query);
+            case ESTIMATED -> query.estimateSql() != null ? estimated(query) : cached(query);
+        };
+
+        // Another page exists, so there is at least one row beyond those read; a page past the end proves nothing
+        long minimum = slice.hasNext() ? read + 1 : slice.hasContent() ? read : 0;
+        return new PageImpl<>(slice.getContent(), slice.getPageable(), Math.max(total, minimum));
+    }
+
+    private long cached(CountQuery query) {
+        return cachedTotals.get(query.signature(), signature -> query.exact().get());
+    }
+
+    private long estimated(CountQuery query) {
+        try {
+            String plan = jdbcTemplate.queryForObject(
+                    "EXPLAIN (FORMAT JSON) " + query.estimateSql(), String.class, query.estimateArgs().toArray());
+            JsonNode rows = objectMapper.readTree(plan).path(0).path("Plan").path("Plan Rows");
+            if (rows.isNumber()) {
+                return rows.asLong();
+            }
+            log.debug("No row estimate in plan for {}", query.signature());
+        } catch (DataAccessException | IOException e) {
+            log.debug("Row estimate failed for {}: {}", query.signature(), e.getMessage());
+        }
+        return cached(query);
+    }
+}
@@ -0,0 +1,58 @@
+package com.project.pmt.repository;
+
+import com.project.pmt.entity.BoardChange;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface BoardChangeRepository extends JpaRepository<BoardChange, Long> {
+
+    /**
+     * Distinct issues changed on a board within a version range
+     * @param projectId Project ID
+     * @param afterVersion Exclusive lower bound
+     * @param upToVersion Inclusive upper bound
+     * @param limit Maximum number of issue ids
+     * @return Issue IDs
+     */
+    @Query("SELECT DISTINCT c.issueId FROM BoardChange c WHERE c.projectId = :projectId " +
+            "AND c.version > :afterVersion AND c.version <= :upToVersion")
+    List<Long> findChangedIssueIds(@Param("projectId") Long projectId,
+                                   @Param("afterVersion") Long afterVersion,
+                                   @Param("upToVersion") Long upToVersion,
+                                   Limit limit);
+
+    /**
+     * Drop entries superseded by a later entry for the same issue; deltas only need the latest one
+     * @return Number of entries removed
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "board_changes"))
+    @Query(value = "DELETE FROM board_changes c USING board_changes newer " +
+            "WHERE newer.project_id = c.project_id AND newer.issue_id = c.issue_id AND newer.version > c.version",
+            nativeQuery = true)
+    int deleteSuperseded();
+
+    /**
+     * Drop entries older than the cutoff and raise each project's compacted version past them
+     * @param cutoff Oldest creation time to keep
+     * @return Number of projects compacted
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "board_changes"))
+    @Query(value = "WITH deleted AS (DELETE FROM board_changes WHERE created_at < :cutoff RETURNING project_id, version) " +
+            "UPDATE board_versions bv SET compacted_version = GREATEST(bv.compacted_version, d.max_version) " +
+            "FROM (SELECT project_id, MAX(version) AS max_version FROM deleted GROUP BY project_id) d " +
+            "WHERE bv.project_id = d.project_id", nativeQuery = true)
+    int deleteOlderThan(@Param("cutoff") LocalDateTime cutoff);
+}
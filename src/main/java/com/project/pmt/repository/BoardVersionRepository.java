@@ -0,0 +1,45 @@
+package com.project.pmt.repository;
+
+import com.project.pmt.entity.BoardVersion;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface BoardVersionRepository extends JpaRepository<BoardVersion, Long> {
+
+    /**
+     * Increment a project's board version, creating the row on first use.
+     * The row stays locked until commit, so versions of one project commit in order.
+     * @param projectId Project ID
+     * @return New board version
+     */
+    @Query(value = "INSERT INTO board_versions (project_id, version, compacted_version) VALUES (:projectId, 1, 0) " +
+            "ON CONFLICT (project_id) DO UPDATE SET version = board_versions.version + 1 RETURNING version",
+            nativeQuery = true)
+    Long bump(@Param("projectId") Long projectId);
+
+    /**
+     * Lock a project's board version row until commit without changing the version, creating it on first use.
+     * Writers that derive ranks from the cards already in a column take this lock first, so they never
+     * hand out the same rank twice.
+     * @param projectId Project ID
+     * @return Current board version
+     */
+    @Query(value = "INSERT INTO board_versions (project_id, version, compacted_version) VALUES (:projectId, 0, 0) " +
+            "ON CONFLICT (project_id) DO UPDATE SET version = board_versions.version RETURNING version",
+            nativeQuery = true)
+    Long lock(@Param("projectId") Long projectId);
+
+    /**
+     * Current board version of a project, 0 if its board never changed
+     * @param projectId Project ID
+     * @return Optional of version, empty if the project does not exist
+     */
+    @Query(value = "SELECT COALESCE(bv.version, 0) FROM projects p " +
+            "LEFT JOIN board_versions bv ON bv.project_id = p.id WHERE p.id = :projectId", nativeQuery = true)
+    Optional<Long> findVersionByProjectId(@Param("projectId") Long projectId);
+}
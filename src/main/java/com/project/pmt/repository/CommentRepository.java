@@ -1,8 +1,10 @@
 package com.project.pmt.repository;
 
 import com.project.pmt.entity.Comment;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
@@ -14,6 +16,15 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
 
     Page<Comment> findByIssueId(Long issueId, Pageable pageable);
 
+    /**
+     * Keyset pages of an issue's comments, oldest first; served by index_comment_issue_id
+     */
+    @EntityGraph(attributePaths = {"user"})
+    List<Comment> findByIssueIdOrderByIdAsc(Long issueId, Limit limit);
+
+    @EntityGraph(attributePaths = {"user"})
+    List<Comment> findByIssueIdAndIdGreaterThanOrderByIdAsc(Long issueId, Long id, Limit limit);
+
     List<Comment> findByUserId(Long userId);
 
     Long countByIssueId(Long issueId);
@@ -1,35 +1,75 @@
 package com.project.pmt.repository;
 
+import com.project.pmt.dto.projection.BoardCardView;
+import com.project.pmt.dto.projection.BoardColumn;
+import com.project.pmt.dto.projection.BoardPosition;
+import com.project.pmt.dto.projection.IssueActivityCount;
+import com.project.pmt.dto.projection.SprintIssueCount;
 import com.project.pmt.entity.Issue;
 import com.project.pmt.entity.Project;
+import com.project.pmt.entity.Sprint;
+import com.project.pmt.entity.User;
 import com.project.pmt.enums.IssueStatus;
 import com.project.pmt.enums.Priority;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface IssueRepository extends JpaRepository<Issue, Long> {
     Optional<Issue> findByIssueKey(String key);
 
+    @EntityGraph(attributePaths = {"reporter", "assignee", "sprint", "parentIssue"})
     List<Issue> findByProjectId(Long projectId);
 
-    Page<Issue> findByProjectId(Long projectId, Pageable pageable);
+    @EntityGraph(attributePaths = {"reporter", "assignee", "sprint", "parentIssue"})
+    Slice<Issue> findByProjectId(Long projectId, Pageable pageable);
 
+    /**
+     * Keyset pages of a project's issues, newest first; served by index_issue_project_id
+     */
+    @EntityGraph(attributePaths = {"reporter", "assignee", "sprint", "parentIssue"})
+    List<Issue> findByProjectIdOrderByIdDesc(Long projectId, Limit limit);
+
+    @EntityGraph(attributePaths = {"reporter", "assignee", "sprint", "parentIssue"})
+    List<Issue> findByProjectIdAndIdLessThanOrderByIdDesc(Long projectId, Long id, Limit limit);
+
+    @EntityGraph(attributePaths = {"reporter", "assignee", "sprint", "parentIssue"})
     List<Issue> findByProjectIdAndStatus(Long projectId, IssueStatus status);
 
+    @EntityGraph(attributePaths = {"reporter", "assignee", "sprint", "parentIssue"})
     List<Issue> findByAssigneeId(Long assigneeId);
 
     List<Issue> findByReporterId(Long reporterId);
 
+    @EntityGraph(attributePaths = {"assignee"})
+    List<Issue> findByIdIn(Collection<Long> ids);
+
+    @EntityGraph(attributePaths = {"labels"})
+    @Query("SELECT i FROM Issue i WHERE i.id IN :ids")
+    List<Issue> findWithLabelsByIdIn(@Param("ids") Collection<Long> ids);
+
+    @EntityGraph(attributePaths = {"reporter", "assignee", "sprint", "parentIssue"})
     List<Issue> findBySprintId(Long sprintId);
 
+    Long countByProjectId(Long projectId);
+
     @Query("SELECT COUNT(i) FROM Issue i WHERE i.project.id = :projectId AND i.status = :status")
     Long countByProjectIdAndStatus(@Param("projectId") Long projectId, @Param("status") IssueStatus status);
 
@@ -37,9 +77,81 @@ public interface IssueRepository extends JpaRepository<Issue, Long> {
             "FROM Issue i WHERE i.project.key = :projectKey")
     Integer findMaxIssueNumber(@Param("projectKey") String projectKey);
 
-    @Query("SELECT MAX(i.boardOrder) FROM Issue i WHERE i.project.id = :projectId AND i.status = :status")
-    Integer findMaxBoardOrder(@Param("projectId") Long projectId, @Param("status") IssueStatus status);
+    /**
+     * Comment and attachment counts for a page of issues in one statement,
+     * instead of initializing both collections on every issue
+     */
+    @Query("SELECT i.id AS issueId, " +
+            "(SELECT COUNT(c) FROM Comment c WHERE c.issue = i) AS commentCount, " +
+            "(SELECT COUNT(a) FROM Attachment a WHERE a.issue = i) AS attachmentCount " +
+            "FROM Issue i WHERE i.id IN :issueIds")
+    List<IssueActivityCount> countActivityByIssueIds(@Param("issueIds") Collection<Long> issueIds);
+
+    @Query("SELECT i.sprint.id AS sprintId, COUNT(i) AS issueCount FROM Issue i " +
+            "WHERE i.sprint.id IN :sprintIds GROUP BY i.sprint.id")
+    List<SprintIssueCount> countBySprintIds(@Param("sprintIds") Collection<Long> sprintIds);
+
+    @Query("SELECT i.project.id AS projectId, i.status AS status, i.boardRank AS boardRank FROM Issue i WHERE i.id = :id")
+    Optional<BoardPosition> findBoardPositionById(@Param("id") Long id);
+
+    /**
+     * Highest ranks in a board column, served from the (project_id, status, board_rank) index
+     */
+    @Query("SELECT i.boardRank FROM Issue i " +
+            "WHERE i.project.id = :projectId AND i.status = :status AND i.boardRank IS NOT NULL " +
+            "ORDER BY i.boardRank DESC")
+    List<String> findLastBoardRanks(@Param("projectId") Long projectId, @Param("status") IssueStatus status, Pageable pageable);
+
+    /**
+     * Columns with unranked cards, over-long ranks or two cards sharing a rank
+     */
+    @Query("SELECT DISTINCT i.project.id AS projectId, i.status AS status FROM Issue i " +
+            "WHERE i.boardRank IS NULL OR LENGTH(i.boardRank) > :maxLength " +
+            "OR EXISTS (SELECT 1 FROM Issue j WHERE j.project = i.project AND j.status = i.status " +
+            "AND j.boardRank = i.boardRank AND j.id <> i.id)")
+    List<BoardColumn> findColumnsNeedingRebalance(@Param("maxLength") int maxLength);
+
+    @Query("SELECT i.id AS id, i.issueKey AS issueKey, i.title AS title, i.type AS type, i.priority AS priority, " +
+            "i.status AS status, i.boardRank AS boardRank, s.id AS sprintId, a.id AS assigneeId, " +
+            "a.fullName AS assigneeName, a.avatarUrl AS assigneeAvatarUrl " +
+            "FROM Issue i LEFT JOIN i.sprint s LEFT JOIN i.assignee a WHERE i.project.id = :projectId " +
+            "ORDER BY i.boardRank ASC NULLS LAST, i.boardOrder ASC, i.id ASC")
+    List<BoardCardView> findBoardCardsByProjectId(@Param("projectId") Long projectId);
+
+    @Query("SELECT i.id AS id, i.issueKey AS issueKey, i.title AS title, i.type AS type, i.priority AS priority, " +
+            "i.status AS status, i.boardRank AS boardRank, s.id AS sprintId, a.id AS assigneeId, " +
+            "a.fullName AS assigneeName, a.avatarUrl AS assigneeAvatarUrl " +
+            "FROM Issue i LEFT JOIN i.sprint s LEFT JOIN i.assignee a WHERE s.id = :sprintId " +
+            "ORDER BY i.boardRank ASC NULLS LAST, i.boardOrder ASC, i.id ASC")
+    List<BoardCardView> findBoardCardsBySprintId(@Param("sprintId") Long sprintId);
+
+    @Query("SELECT i.id AS id, i.issueKey AS issueKey, i.title AS title, i.type AS type, i.priority AS priority, " +
+            "i.status AS status, i.boardRank AS boardRank, s.id AS sprintId, a.id AS assigneeId, " +
+            "a.fullName AS assigneeName, a.avatarUrl AS assigneeAvatarUrl " +
+            "FROM Issue i LEFT JOIN i.sprint s LEFT JOIN i.assignee a WHERE i.id IN :ids")
+    List<BoardCardView> findBoardCardsByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT i.id FROM Issue i WHERE i.project.id = :projectId AND i.status = :status " +
+            "ORDER BY i.boardRank ASC NULLS LAST, i.boardOrder ASC, i.id ASC")
+    List<Long> findIdsInBoardOrder(@Param("projectId") Long projectId, @Param("status") IssueStatus status);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Issue i SET i.priority = :priority, i.updatedAt = :now WHERE i.id IN :ids")
+    int bulkUpdatePriority(@Param("ids") Collection<Long> ids, @Param("priority") Priority priority, @Param("now") LocalDateTime now);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Issue i SET i.assignee = :assignee, i.updatedAt = :now WHERE i.id IN :ids")
+    int bulkUpdateAssignee(@Param("ids") Collection<Long> ids, @Param("assignee") User assignee, @Param("now") LocalDateTime now);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Issue i SET i.sprint = :sprint, i.updatedAt = :now WHERE i.id IN :ids")
+    int bulkUpdateSprint(@Param("ids") Collection<Long> ids, @Param("sprint") Sprint sprint, @Param("now") LocalDateTime now);
 
+    @Modifying
+    @Query("UPDATE Issue i SET i.boardRank = :boardRank WHERE i.id = :id")
+    void updateBoardRank(@Param("id") Long id, @Param("boardRank") String boardRank);
+
+    @EntityGraph(attributePaths = {"reporter", "assignee", "sprint", "parentIssue"})
     @Query("SELECT i FROM Issue i WHERE " +
             "(:projectId IS NULL OR i.project.id = :projectId) AND " +
             "(:assigneeId IS NULL OR i.assignee.id = :assigneeId) AND " +
@@ -51,14 +163,122 @@ public interface IssueRepository extends JpaRepository<Issue, Long> {
             "LOWER(i.title) LIKE LOWER(CONCAT('%', :search, '%')) OR " +
             "LOWER(i.description) LIKE LOWER(CONCAT('%', :search, '%')) OR " +
             "LOWER(i.issueKey) LIKE LOWER(CONCAT('%', :search, '%')))")
-    Page<Issue> searchIssues(
+    Slice<Issue> searchIssues(
+            @Param("projectId") Long projectId,
+            @Param("assigneeId") Long assigneeId,
+            @Param("reporterId") Long reporterId,
+            @Param("status") IssueStatus status,
+            @Param("priority") Priority priority,
+            @Param("sprintId") Long sprintId,
+            @Param("search") String search,
+            Pageable pageable
+    );
+
+    @Query("SELECT COUNT(i) FROM Issue i WHERE " +
+            "(:projectId IS NULL OR i.project.id = :projectId) AND " +
+            "(:assigneeId IS NULL OR i.assignee.id = :assigneeId) AND " +
+            "(:reporterId IS NULL OR i.reporter.id = :reporterId) AND " +
+            "(:status IS NULL OR i.status = :status) AND " +
+            "(:priority IS NULL OR i.priority = :priority) AND " +
+            "(:sprintId IS NULL OR i.sprint.id = :sprintId) AND " +
+            "(:search IS NULL OR " +
+            "LOWER(i.title) LIKE LOWER(CONCAT('%', :search, '%')) OR " +
+            "LOWER(i.description) LIKE LOWER(CONCAT('%', :search, '%')) OR " +
+            "LOWER(i.issueKey) LIKE LOWER(CONCAT('%', :search, '%')))")
+    Long countSearchIssues(
             @Param("projectId") Long projectId,
             @Param("assigneeId") Long assigneeId,
             @Param("reporterId") Long reporterId,
             @Param("status") IssueStatus status,
             @Param("priority") Priority priority,
             @Param("sprintId") Long sprintId,
+            @Param("search") String search
+    );
+
+    /**
+     * Full-text search over the trigger-maintained search_vector column (GIN indexed).
+     * Returns ids only, best match first: an exact issue key, then ts_rank relevance.
+     * Load the rows with findWithDetailsByIdIn.
+     */
+    @Query(value = "SELECT i.id FROM issues i WHERE " +
+            "(CAST(:projectId AS bigint) IS NULL OR i.project_id = :projectId) AND " +
+            "(CAST(:assigneeId AS bigint) IS NULL OR i.assignee_id = :assigneeId) AND " +
+            "(CAST(:reporterId AS bigint) IS NULL OR i.reporter_id = :reporterId) AND " +
+            "(CAST(:status AS varchar) IS NULL OR i.status = :status) AND " +
+            "(CAST(:priority AS varchar) IS NULL OR i.priority = :priority) AND " +
+            "(CAST(:sprintId AS bigint) IS NULL OR i.sprint_id = :sprintId) AND " +
+            "(i.search_vector @@ to_tsquery('english', :tsQuery) OR i.issue_key = UPPER(:search)) " +
+            "ORDER BY (i.issue_key = UPPER(:search)) DESC, " +
+            "ts_rank(i.search_vector, to_tsquery('english', :tsQuery)) DESC, i.id DESC",
+            countQuery = "SELECT COUNT(*) FROM issues i WHERE " +
+                    "(CAST(:projectId AS bigint) IS NULL OR i.project_id = :projectId) AND " +
+                    "(CAST(:assigneeId AS bigint) IS NULL OR i.assignee_id = :assigneeId) AND " +
+                    "(CAST(:reporterId AS bigint) IS NULL OR i.reporter_id = :reporterId) AND " +
+                    "(CAST(:status AS varchar) IS NULL OR i.status = :status) AND " +
+                    "(CAST(:priority AS varchar) IS NULL OR i.priority = :priority) AND " +
+                    "(CAST(:sprintId AS bigint) IS NULL OR i.sprint_id = :sprintId) AND " +
+                    "(i.search_vector @@ to_tsquery('english', :tsQuery) OR i.issue_key = UPPER(:search))",
+            nativeQuery = true)
+    Page<Long> fullTextSearchIssueIds(
+            @Param("projectId") Long projectId,
+            @Param("assigneeId") Long assigneeId,
+            @Param("reporterId") Long reporterId,
+            @Param("status") String status,
+            @Param("priority") String priority,
+            @Param("sprintId") Long sprintId,
+            @Param("tsQuery") String tsQuery,
             @Param("search") String search,
             Pageable pageable
     );
+
+    @EntityGraph(attributePaths = {"reporter", "assignee", "sprint", "parentIssue"})
+    @Query("SELECT i FROM Issue i WHERE i.id IN :ids")
+    List<Issue> findWithDetailsByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT i.id FROM Issue i WHERE i.id > :afterId ORDER BY i.id")
+    List<Long> findIdsAfter(@Param("afterId") long afterId, Pageable pageable);
+
+    @Query("SELECT i.id FROM Issue i WHERE i.project.id = :projectId")
+    List<Long> findIdsByProjectId(@Param("projectId") Long projectId);
+
+    @EntityGraph(attributePaths = {"labels"})
+    @Query("SELECT i FROM Issue i WHERE i.id IN :ids")
+    List<Issue> findForIndexingByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Stream issues matching the export filters through a server-side cursor.
+     * Reporter, assignee and sprint are fetch-joined so each row is complete,
+     * and the fetch size keeps only one batch of rows in the JDBC driver at a time.
+     * Must be consumed inside a transaction and closed by the caller.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "false")
+    })
+    @Query("SELECT i FROM Issue i " +
+            "LEFT JOIN FETCH i.reporter " +
+            "LEFT JOIN FETCH i.assignee " +
+            "LEFT JOIN FETCH i.sprint " +
+            "WHERE " +
+            "(:projectId IS NULL OR i.project.id = :projectId) AND " +
+            "(:assigneeId IS NULL OR i.assignee.id = :assigneeId) AND " +
+            "(:reporterId IS NULL OR i.reporter.id = :reporterId) AND " +
+            "(:status IS NULL OR i.status = :status) AND " +
+            "(:priority IS NULL OR i.priority = :priority) AND " +
+            "(:sprintId IS NULL OR i.sprint.id = :sprintId) AND " +
+            "(:search IS NULL OR " +
+            "LOWER(i.title) LIKE LOWER(CONCAT('%', :search, '%')) OR " +
+            "LOWER(i.description) LIKE LOWER(CONCAT('%', :search, '%')) OR " +
+            "LOWER(i.issueKey) LIKE LOWER(CONCAT('%', :search, '%'))) " +
+            "ORDER BY i.id")
+    Stream<Issue> streamIssuesForExport(
+            @Param("projectId") Long projectId,
+            @Param("assigneeId") Long assigneeId,
+            @Param("reporterId") Long reporterId,
+            @Param("status") IssueStatus status,
+            @Param("priority") Priority priority,
+            @Param("sprintId") Long sprintId,
+            @Param("search") String search
+    );
 }
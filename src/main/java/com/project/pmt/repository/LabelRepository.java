@@ -1,11 +1,19 @@
 package com.project.pmt.repository;
 
 import com.project.pmt.entity.Label;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 
 import java.util.List;
 
 public interface LabelRepository extends JpaRepository<Label, Long> {
+
+    @Override
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    List<Label> findAll();
+
     Label findByName(String name);
     Boolean existsByName(String name);
     List<Label> findByNameContainingIgnoreCase(String name);
@@ -1,6 +1,7 @@
 package com.project.pmt.repository;
 
 import com.project.pmt.entity.Notification;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -9,6 +10,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Repository
@@ -22,6 +24,44 @@ public interface NotificationRepository extends JpaRepository<Notification, Long
 
     Long countByUserIdAndReadFalse(Long userId);
 
+    Long countByUserId(Long userId);
+
+    /**
+     * Keyset pages of a user's notifications, newest first; served by index_notification_user_created
+     */
+    List<Notification> findByUserIdOrderByCreatedAtDescIdDesc(Long userId, Limit limit);
+
+    @Query("SELECT n FROM Notification n WHERE n.user.id = :userId AND " +
+            "(n.createdAt < :createdAt OR (n.createdAt = :createdAt AND n.id < :id)) " +
+            "ORDER BY n.createdAt DESC, n.id DESC")
+    List<Notification> findByUserIdBefore(
+            @Param("userId") Long userId,
+            @Param("createdAt") LocalDateTime createdAt,
+            @Param("id") Long id,
+            Limit limit);
+
+    /**
+     * Notifications created after the given id, oldest first (used to resume event streams)
+     */
+    List<Notification> findByUserIdAndIdGreaterThanOrderByIdAsc(Long userId, Long id, Pageable pageable);
+
+    /**
+     * Mark one notification as read unless it already is
+     *
+     * @return Number of rows changed; 0 when the notification was already read, so the unread counter must not move
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Notification n SET n.read = true, n.readAt = :readAt WHERE n.id = :id AND n.read = false")
+    int markAsReadIfUnread(@Param("id") Long id, @Param("readAt") LocalDateTime readAt);
+
+    /**
+     * Delete one notification
+     *
+     * @return Whether it had been read when it was deleted, or null when it was already gone
+     */
+    @Query(value = "DELETE FROM notifications WHERE id = :id RETURNING read", nativeQuery = true)
+    Boolean deleteReturningRead(@Param("id") Long id);
+
     @Modifying
     @Query("UPDATE Notification n SET n.read = true WHERE n.user.id = :userId AND n.read = false")
     void markAllAsReadForUser(@Param("userId") Long userId);
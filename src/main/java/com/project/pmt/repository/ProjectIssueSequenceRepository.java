@@ -0,0 +1,36 @@
+package com.project.pmt.repository;
+
+import com.project.pmt.entity.ProjectIssueSequence;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface ProjectIssueSequenceRepository extends JpaRepository<ProjectIssueSequence, Long> {
+
+    /**
+     * Create the sequence row for a project if it does not exist yet
+     * @param projectId Project ID
+     * @param lastValue Highest issue number already in use
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "project_issue_sequences"))
+    @Query(value = "INSERT INTO project_issue_sequences (project_id, last_value) VALUES (:projectId, :lastValue) " +
+            "ON CONFLICT (project_id) DO NOTHING", nativeQuery = true)
+    void initialize(@Param("projectId") Long projectId, @Param("lastValue") Long lastValue);
+
+    /**
+     * Atomically reserve the next block of issue numbers for a project
+     * @param projectId Project ID
+     * @param blockSize Number of issue numbers to reserve
+     * @return Last issue number of the reserved block
+     */
+    @Query(value = "UPDATE project_issue_sequences SET last_value = last_value + :blockSize " +
+            "WHERE project_id = :projectId RETURNING last_value", nativeQuery = true)
+    Long reserveBlock(@Param("projectId") Long projectId, @Param("blockSize") long blockSize);
+}
@@ -1,7 +1,8 @@
 package com.project.pmt.repository;
 
 import com.project.pmt.entity.Project;
-import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 import org.springframework.data.domain.Pageable;
@@ -18,19 +19,32 @@ public interface ProjectRepository extends JpaRepository<Project, Long> {
 
     Boolean existsByKey(String key);
 
+    @EntityGraph(attributePaths = "lead")
     List<Project> findByArchivedFalse();
 
+    @EntityGraph(attributePaths = "lead")
     @Query("SELECT p FROM Project p WHERE p.archived = false")
-    List<Project> findActiveProjects(Pageable pageable);
+    Slice<Project> findActiveProjects(Pageable pageable);
 
+    Long countByArchivedFalse();
+
+    @EntityGraph(attributePaths = "lead")
     @Query("SELECT p FROM Project p JOIN p.members m WHERE m.id = :userId AND p.archived = false")
     List<Project> findProjectsByMemberId(@Param("userId") Long userId);
 
+    @EntityGraph(attributePaths = "lead")
     @Query("SELECT p FROM Project p WHERE " +
             "p.archived = false AND (" +
             "LOWER(p.name) LIKE LOWER(CONCAT('%', :search, '%')) OR " +
             "LOWER(p.key) LIKE LOWER(CONCAT('%', :search, '%')) OR " +
             "LOWER(p.description) LIKE LOWER(CONCAT('%', :search, '%')))")
-    Page<Project> searchProjects(@Param("search") String search, Pageable pageable);
+    Slice<Project> searchProjects(@Param("search") String search, Pageable pageable);
+
+    @Query("SELECT COUNT(p) FROM Project p WHERE " +
+            "p.archived = false AND (" +
+            "LOWER(p.name) LIKE LOWER(CONCAT('%', :search, '%')) OR " +
+            "LOWER(p.key) LIKE LOWER(CONCAT('%', :search, '%')) OR " +
+            "LOWER(p.description) LIKE LOWER(CONCAT('%', :search, '%')))")
+    Long countSearchProjects(@Param("search") String search);
 
 }
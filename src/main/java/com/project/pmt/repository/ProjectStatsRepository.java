@@ -0,0 +1,9 @@
+package com.project.pmt.repository;
+
+import com.project.pmt.entity.ProjectStats;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface ProjectStatsRepository extends JpaRepository<ProjectStats, Long> {
+}
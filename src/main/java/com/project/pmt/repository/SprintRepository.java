@@ -2,8 +2,11 @@ package com.project.pmt.repository;
 
 import com.project.pmt.entity.Sprint;
 import com.project.pmt.enums.SprintState;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
@@ -18,8 +21,17 @@ public interface SprintRepository extends JpaRepository<Sprint, Long> {
      * @param projectId Project ID
      * @return List of sprints
      */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<Sprint> findByProjectId(Long projectId);
 
+    /**
+     * Check that a sprint belongs to a project
+     * @param id Sprint ID
+     * @param projectId Project ID
+     * @return true if the sprint exists in that project
+     */
+    boolean existsByIdAndProjectId(Long id, Long projectId);
+
     /**
      * Find sprints by project ID and state
      * @param projectId Project ID
@@ -34,6 +46,7 @@ public interface SprintRepository extends JpaRepository<Sprint, Long> {
      * @return Optional of Sprint
      */
     @Query("SELECT s FROM Sprint s WHERE s.project.id = :projectId AND s.state = 'ACTIVE'")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<Sprint> findActiveSprintByProjectId(@Param("projectId") Long projectId);
 
     /**
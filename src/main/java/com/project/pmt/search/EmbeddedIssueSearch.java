@@ -0,0 +1,291 @@
+package com.project.pmt.search;
+
+import com.project.pmt.entity.BoardVersion;
+import com.project.pmt.entity.Issue;
+import com.project.pmt.event.IssueChangedEvent;
+import com.project.pmt.repository.BoardChangeRepository;
+import com.project.pmt.repository.BoardVersionRepository;
+import com.project.pmt.repository.IssueRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Embedded Issue Search
+ * Owns the in-process inverted index used when issue.search.engine=embedded.
+ * On startup the last snapshot is loaded so search is available at once, then the index is
+ * rebuilt from the database in the background to pick up changes made while the node was down.
+ * Issue changes made by this node arrive as events after commit and are applied in small batches.
+ * Changes made by other nodes are found by polling the board change log: every issue change bumps
+ * its project's board version in the writing transaction, so a project whose version moved past
+ * the one last seen has changes to pick up, listed in board_changes. When the log for that range
+ * was compacted away or is too long, the whole project is re-read. The index is snapshotted to
+ * disk periodically and on shutdown.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+@ConditionalOnProperty(name = "issue.search.engine", havingValue = "embedded")
+public class EmbeddedIssueSearch {
+
+    private final IssueRepository issueRepository;
+    private final BoardVersionRepository boardVersionRepository;
+    private final BoardChangeRepository boardChangeRepository;
+    private final PlatformTransactionManager transactionManager;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${issue.search.embedded.snapshot-path:./data/issue-search.idx}")
+    private Path snapshotPath;
+
+    @Value("${issue.search.embedded.batch-size:1000}")
+    private int batchSize;
+
+    private final Set<Long> pending = ConcurrentHashMap.newKeySet();
+    private TransactionTemplate readOnlyTransaction;
+    private volatile InvertedIssueIndex index;
+    private volatile boolean dirty;
+
+    // Issues applied to the live index while a rebuild runs, replayed onto the rebuilt index; guarded by this
+    private Set<Long> changedDuringRebuild;
+
+    // Board version per project up to which changes were queued; null until the first rebuild starts
+    private volatile Map<Long, Long> seenVersions;
+
+    @PostConstruct
+    void init() {
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+
+        Gauge.builder("pmt.search.index.documents", this, search -> {
+                    InvertedIssueIndex current = search.index;
+                    return current != null ? current.size() : 0;
+                })
+                .description("Issues held by the embedded search index")
+                .register(meterRegistry);
+        Gauge.builder("pmt.search.index.pending", pending, Set::size)
+                .description("Issue changes waiting to be indexed")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        loadSnapshot();
+        Thread.ofVirtual().name("issue-index-rebuild").start(this::rebuild);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        snapshotIfDirty();
+    }
+
+    public boolean isReady() {
+        return index != null;
+    }
+
+    /**
+     * Ids of matching issues, always newest first (highest id first).
+     * The sort of the pageable is ignored, as it is for the full-text engine; only its page number and size are used.
+     */
+    public Page<Long> search(String text, IssueSearchFilter filter, Pageable pageable) {
+        RoaringBitmap matches = index.search(text, filter);
+        int total = matches.getCardinality();
+
+        List<Long> ids = new ArrayList<>(pageable.getPageSize());
+        for (long position = total - 1 - pageable.getOffset();
+             position >= 0 && ids.size() < pageable.getPageSize();
+             position--) {
+            ids.add(Integer.toUnsignedLong(matches.select((int) position)));
+        }
+        return new PageImpl<>(ids, pageable, total);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onIssueChanged(IssueChangedEvent event) {
+        pending.addAll(event.issueIds());
+    }
+
+    /**
+     * Queue issues changed by other nodes since the last poll
+     */
+    @Scheduled(fixedDelayString = "${issue.search.embedded.poll-interval-ms:5000}")
+    public void pollChanges() {
+        Map<Long, Long> seen = seenVersions;
+        if (seen == null) {
+            return;
+        }
+
+        for (BoardVersion current : boardVersionRepository.findAll()) {
+            Long projectId = current.getProjectId();
+            long since = seen.getOrDefault(projectId, 0L);
+            if (current.getVersion() <= since) {
+                continue;
+            }
+
+            List<Long> issueIds = since < current.getCompactedVersion() ? null
+                    : boardChangeRepository.findChangedIssueIds(projectId, since, current.getVersion(),
+                    Limit.of(batchSize + 1));
+            if (issueIds == null || issueIds.size() > batchSize) {
+                // Changes are incomplete or too many to list: re-read the project, dropping what no longer exists
+                pending.addAll(issueRepository.findIdsByProjectId(projectId));
+                InvertedIssueIndex live = index;
+                if (live != null) {
+                    pending.addAll(live.idsInProject(projectId));
+                }
+            } else {
+                pending.addAll(issueIds);
+            }
+            seen.put(projectId, current.getVersion());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${issue.search.embedded.refresh-interval-ms:1000}")
+    public void applyPending() {
+        if (pending.isEmpty() || index == null) {
+            return;
+        }
+
+        List<Long> ids = new ArrayList<>();
+        for (Iterator<Long> it = pending.iterator(); it.hasNext(); ) {
+            ids.add(it.next());
+            it.remove();
+        }
+
+        InvertedIssueIndex current;
+        synchronized (this) {
+            current = index;
+            if (changedDuringRebuild != null) {
+                changedDuringRebuild.addAll(ids);
+            }
+        }
+        reindex(current, ids);
+        dirty = true;
+    }
+
+    @Scheduled(fixedDelayString = "${issue.search.embedded.snapshot-interval-ms:300000}")
+    public void snapshotIfDirty() {
+        InvertedIssueIndex current = index;
+        if (!dirty || current == null) {
+            return;
+        }
+        dirty = false;
+
+        try {
+            Path parent = snapshotPath.toAbsolutePath().getParent();
+            Files.createDirectories(parent);
+            Path temp = Files.createTempFile(parent, "issue-search", ".tmp");
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+                current.writeTo(out);
+            }
+            Files.move(temp, snapshotPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            log.info("Wrote issue search snapshot with {} issues", current.size());
+        } catch (IOException e) {
+            dirty = true;
+            log.error("Failed to write issue search snapshot to {}", snapshotPath, e);
+        }
+    }
+
+    private void loadSnapshot() {
+        if (!Files.exists(snapshotPath)) {
+            return;
+        }
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(snapshotPath)))) {
+            index = InvertedIssueIndex.readFrom(in);
+            log.info("Loaded issue search snapshot with {} issues", index.size());
+        } catch (IOException | RuntimeException e) {
+            log.warn("Ignoring unreadable issue search snapshot {}: {}", snapshotPath, e.getMessage());
+        }
+    }
+
+    private void rebuild() {
+        synchronized (this) {
+            changedDuringRebuild = new HashSet<>();
+        }
+
+        try {
+            // Everything committed up to these versions is read by the scan below; later changes are polled
+            Map<Long, Long> versions = new ConcurrentHashMap<>();
+            for (BoardVersion version : boardVersionRepository.findAll()) {
+                versions.put(version.getProjectId(), version.getVersion());
+            }
+            seenVersions = versions;
+
+            InvertedIssueIndex rebuilt = new InvertedIssueIndex();
+            long afterId = 0;
+            List<Long> ids;
+            do {
+                ids = issueRepository.findIdsAfter(afterId, PageRequest.of(0, batchSize));
+                if (!ids.isEmpty()) {
+                    reindex(rebuilt, ids);
+                    afterId = ids.get(ids.size() - 1);
+                }
+            } while (ids.size() == batchSize);
+
+            Set<Long> replay;
+            synchronized (this) {
+                index = rebuilt;
+                replay = changedDuringRebuild;
+                changedDuringRebuild = null;
+            }
+            reindex(rebuilt, new ArrayList<>(replay));
+            dirty = true;
+            log.info("Rebuilt issue search index with {} issues", rebuilt.size());
+            snapshotIfDirty();
+        } catch (RuntimeException e) {
+            synchronized (this) {
+                changedDuringRebuild = null;
+            }
+            log.error("Failed to rebuild issue search index", e);
+        }
+    }
+
+    /**
+     * Re-read issues from the database; ids that no longer exist are removed
+     */
+    private void reindex(InvertedIssueIndex target, List<Long> ids) {
+        for (int from = 0; from < ids.size(); from += batchSize) {
+            List<Long> chunk = ids.subList(from, Math.min(from + batchSize, ids.size()));
+            readOnlyTransaction.executeWithoutResult(status -> {
+                Set<Long> missing = new HashSet<>(chunk);
+                for (Issue issue : issueRepository.findForIndexingByIdIn(chunk)) {
+                    target.index(IssueDocument.from(issue));
+                    missing.remove(issue.getId());
+                }
+                missing.forEach(target::remove);
+            });
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.project.pmt.search;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.stream.Collectors;
+
+/**
+ * Turns free text typed by a user into a PostgreSQL tsquery.
+ * Every word becomes a prefix match and all words must match, so "depl fail" finds
+ * "Deployment failed". Only letters and digits are kept, which keeps the result valid
+ * tsquery syntax whatever the input.
+ */
+public final class FullTextQuery {
+
+    private static final int MAX_TERMS = 8;
+
+    private FullTextQuery() {
+    }
+
+    /**
+     * @return tsquery text such as "depl:* &amp; fail:*", or null when the input has no searchable words
+     */
+    public static String toPrefixQuery(String search) {
+        if (search == null) {
+            return null;
+        }
+        String query = Arrays.stream(search.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+"))
+                .filter(term -> !term.isEmpty())
+                .limit(MAX_TERMS)
+                .map(term -> term + ":*")
+                .collect(Collectors.joining(" & "));
+        return query.isEmpty() ? null : query;
+    }
+}
@@ -0,0 +1,321 @@
+package com.project.pmt.search;
+
+import com.project.pmt.enums.IssueStatus;
+import com.project.pmt.enums.Priority;
+import org.roaringbitmap.RoaringBitmap;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+/**
+ * In-memory inverted index over issue key, title, description and label names.
+ * Postings and filter facets are Roaring bitmaps of issue ids, so a query is a handful of
+ * bitmap unions (prefix expansion) and intersections (other words and filters).
+ * Terms are kept sorted, which makes every query word a prefix match.
+ * Thread safe: queries share a read lock, updates take the write lock.
+ */
+public class InvertedIssueIndex {
+
+    private static final int SNAPSHOT_MAGIC = 0x504d5449;
+    private static final int SNAPSHOT_VERSION = 1;
+    private static final int MAX_TERM_LENGTH = 64;
+    private static final long NO_VALUE = -1L;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final NavigableMap<String, RoaringBitmap> postings = new TreeMap<>();
+    private final Map<Integer, Entry> entries = new HashMap<>();
+    private final RoaringBitmap allDocs = new RoaringBitmap();
+    private final Map<Long, RoaringBitmap> byProject = new HashMap<>();
+    private final Map<Long, RoaringBitmap> byAssignee = new HashMap<>();
+    private final Map<Long, RoaringBitmap> byReporter = new HashMap<>();
+    private final Map<Long, RoaringBitmap> bySprint = new HashMap<>();
+    private final Map<IssueStatus, RoaringBitmap> byStatus = new EnumMap<>(IssueStatus.class);
+    private final Map<Priority, RoaringBitmap> byPriority = new EnumMap<>(Priority.class);
+
+    /**
+     * What was indexed for one issue, kept so the issue can be removed again
+     */
+    private record Entry(
+            String[] terms,
+            Long projectId,
+            Long assigneeId,
+            Long reporterId,
+            Long sprintId,
+            IssueStatus status,
+            Priority priority
+    ) {
+    }
+
+    /**
+     * Add an issue or replace what was indexed for it before
+     */
+    public void index(IssueDocument document) {
+        int docId = Math.toIntExact(document.id());
+        String[] terms = Stream.of(
+                        tokenize(document.issueKey()),
+                        tokenize(document.title()),
+                        tokenize(document.description()),
+                        tokenize(String.join(" ", document.labels())))
+                .flatMap(List::stream)
+                .distinct()
+                .toArray(String[]::new);
+        Entry entry = new Entry(terms, document.projectId(), document.assigneeId(), document.reporterId(),
+                document.sprintId(), document.status(), document.priority());
+
+        lock.writeLock().lock();
+        try {
+            removeEntry(docId);
+            addEntry(docId, entry);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(long issueId) {
+        lock.writeLock().lock();
+        try {
+            removeEntry(Math.toIntExact(issueId));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Issues containing every word of the text as a term prefix and matching all filters
+     * @return A new bitmap of issue ids owned by the caller
+     */
+    public RoaringBitmap search(String text, IssueSearchFilter filter) {
+        List<String> words = tokenize(text).stream().distinct().toList();
+
+        lock.readLock().lock();
+        try {
+            RoaringBitmap result = null;
+            for (String word : words) {
+                RoaringBitmap matches = RoaringBitmap.or(
+                        postings.subMap(word, true, word + Character.MAX_VALUE, true).values().iterator());
+                if (result == null) {
+                    result = matches;
+                } else {
+                    result.and(matches);
+                }
+                if (result.isEmpty()) {
+                    return result;
+                }
+            }
+            if (result == null) {
+                result = allDocs.clone();
+            }
+
+            if (filter != null) {
+                restrict(result, byProject, filter.projectId());
+                restrict(result, byAssignee, filter.assigneeId());
+                restrict(result, byReporter, filter.reporterId());
+                restrict(result, bySprint, filter.sprintId());
+                restrict(result, byStatus, filter.status());
+                restrict(result, byPriority, filter.priority());
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Ids of the issues indexed for a project
+     */
+    public List<Long> idsInProject(Long projectId) {
+        lock.readLock().lock();
+        try {
+            RoaringBitmap bitmap = byProject.get(projectId);
+            if (bitmap == null) {
+                return List.of();
+            }
+            List<Long> ids = new ArrayList<>(bitmap.getCardinality());
+            bitmap.forEach((int docId) -> ids.add(Integer.toUnsignedLong(docId)));
+            return ids;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return allDocs.getCardinality();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Write postings and indexed entries; facets are cheap to rebuild and are not stored
+     */
+    public void writeTo(DataOutputStream out) throws IOException {
+        lock.readLock().lock();
+        try {
+            out.writeInt(SNAPSHOT_MAGIC);
+            out.writeInt(SNAPSHOT_VERSION);
+
+            out.writeInt(postings.size());
+            for (Map.Entry<String, RoaringBitmap> posting : postings.entrySet()) {
+                out.writeUTF(posting.getKey());
+                posting.getValue().serialize(out);
+            }
+
+            out.writeInt(entries.size());
+            for (Map.Entry<Integer, Entry> indexed : entries.entrySet()) {
+                Entry entry = indexed.getValue();
+                out.writeInt(indexed.getKey());
+                writeId(out, entry.projectId());
+                writeId(out, entry.assigneeId());
+                writeId(out, entry.reporterId());
+                writeId(out, entry.sprintId());
+                out.writeUTF(entry.status() != null ? entry.status().name() : "");
+                out.writeUTF(entry.priority() != null ? entry.priority().name() : "");
+                out.writeInt(entry.terms().length);
+                for (String term : entry.terms()) {
+                    out.writeUTF(term);
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public static InvertedIssueIndex readFrom(DataInputStream in) throws IOException {
+        if (in.readInt() != SNAPSHOT_MAGIC || in.readInt() != SNAPSHOT_VERSION) {
+            throw new IOException("Not an issue index snapshot of version " + SNAPSHOT_VERSION);
+        }
+
+        InvertedIssueIndex index = new InvertedIssueIndex();
+        int postingCount = in.readInt();
+        for (int i = 0; i < postingCount; i++) {
+            String term = in.readUTF();
+            RoaringBitmap bitmap = new RoaringBitmap();
+            bitmap.deserialize(in);
+            index.postings.put(term, bitmap);
+        }
+
+        int entryCount = in.readInt();
+        for (int i = 0; i < entryCount; i++) {
+            int docId = in.readInt();
+            Long projectId = readId(in);
+            Long assigneeId = readId(in);
+            Long reporterId = readId(in);
+            Long sprintId = readId(in);
+            String status = in.readUTF();
+            String priority = in.readUTF();
+            String[] terms = new String[in.readInt()];
+            for (int t = 0; t < terms.length; t++) {
+                terms[t] = in.readUTF();
+            }
+            Entry entry = new Entry(terms, projectId, assigneeId, reporterId, sprintId,
+                    status.isEmpty() ? null : IssueStatus.valueOf(status),
+                    priority.isEmpty() ? null : Priority.valueOf(priority));
+            index.entries.put(docId, entry);
+            index.addFacets(docId, entry);
+        }
+        return index;
+    }
+
+    /**
+     * Lower-cased runs of letters and digits, truncated to a maximum term length
+     */
+    static List<String> tokenize(String text) {
+        if (text == null || text.isBlank()) {
+            return List.of();
+        }
+        return Arrays.stream(text.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+"))
+                .filter(term -> !term.isEmpty())
+                .map(term -> term.length() > MAX_TERM_LENGTH ? term.substring(0, MAX_TERM_LENGTH) : term)
+                .toList();
+    }
+
+    private void addEntry(int docId, Entry entry) {
+        entries.put(docId, entry);
+        for (String term : entry.terms()) {
+            postings.computeIfAbsent(term, t -> new RoaringBitmap()).add(docId);
+        }
+        addFacets(docId, entry);
+    }
+
+    private void addFacets(int docId, Entry entry) {
+        allDocs.add(docId);
+        addTo(byProject, entry.projectId(), docId);
+        addTo(byAssignee, entry.assigneeId(), docId);
+        addTo(byReporter, entry.reporterId(), docId);
+        addTo(bySprint, entry.sprintId(), docId);
+        addTo(byStatus, entry.status(), docId);
+        addTo(byPriority, entry.priority(), docId);
+    }
+
+    private void removeEntry(int docId) {
+        Entry entry = entries.remove(docId);
+        if (entry == null) {
+            return;
+        }
+        for (String term : entry.terms()) {
+            removeFrom(postings, term, docId);
+        }
+        allDocs.remove(docId);
+        removeFrom(byProject, entry.projectId(), docId);
+        removeFrom(byAssignee, entry.assigneeId(), docId);
+        removeFrom(byReporter, entry.reporterId(), docId);
+        removeFrom(bySprint, entry.sprintId(), docId);
+        removeFrom(byStatus, entry.status(), docId);
+        removeFrom(byPriority, entry.priority(), docId);
+    }
+
+    private static <K> void addTo(Map<K, RoaringBitmap> facet, K key, int docId) {
+        if (key != null) {
+            facet.computeIfAbsent(key, k -> new RoaringBitmap()).add(docId);
+        }
+    }
+
+    private static <K> void removeFrom(Map<K, RoaringBitmap> facet, K key, int docId) {
+        if (key == null) {
+            return;
+        }
+        RoaringBitmap bitmap = facet.get(key);
+        if (bitmap != null) {
+            bitmap.remove(docId);
+            if (bitmap.isEmpty()) {
+                facet.remove(key);
+            }
+        }
+    }
+
+    private static <K> void restrict(RoaringBitmap result, Map<K, RoaringBitmap> facet, K key) {
+        if (key == null) {
+            return;
+        }
+        RoaringBitmap bitmap = facet.get(key);
+        if (bitmap == null) {
+            result.clear();
+        } else {
+            result.and(bitmap);
+        }
+    }
+
+    private static void writeId(DataOutputStream out, Long id) throws IOException {
+        out.writeLong(id != null ? id : NO_VALUE);
+    }
+
+    private static Long readId(DataInputStream in) throws IOException {
+        long id = in.readLong();
+        return id == NO_VALUE ? null : id;
+    }
+}
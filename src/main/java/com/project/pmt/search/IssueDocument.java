@@ -0,0 +1,45 @@
+package com.project.pmt.search;
+
+import com.project.pmt.entity.Issue;
+import com.project.pmt.entity.Label;
+import com.project.pmt.enums.IssueStatus;
+import com.project.pmt.enums.Priority;
+
+import java.util.List;
+
+/**
+ * The parts of an issue held by the embedded search index
+ */
+public record IssueDocument(
+        long id,
+        Long projectId,
+        Long assigneeId,
+        Long reporterId,
+        Long sprintId,
+        IssueStatus status,
+        Priority priority,
+        String issueKey,
+        String title,
+        String description,
+        List<String> labels
+) {
+
+    /**
+     * Build from an issue whose labels are loaded; related entities are only read for their ids
+     */
+    public static IssueDocument from(Issue issue) {
+        return new IssueDocument(
+                issue.getId(),
+                issue.getProject() != null ? issue.getProject().getId() : null,
+                issue.getAssignee() != null ? issue.getAssignee().getId() : null,
+                issue.getReporter() != null ? issue.getReporter().getId() : null,
+                issue.getSprint() != null ? issue.getSprint().getId() : null,
+                issue.getStatus(),
+                issue.getPriority(),
+                issue.getIssueKey(),
+                issue.getTitle(),
+                issue.getDescription(),
+                issue.getLabels().stream().map(Label::getName).toList()
+        );
+    }
+}
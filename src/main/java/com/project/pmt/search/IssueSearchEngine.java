@@ -0,0 +1,13 @@
+package com.project.pmt.search;
+
+/**
+ * Backend used for free-text issue search, selected with issue.search.engine
+ */
+public enum IssueSearchEngine {
+    /** Case-insensitive LIKE scan, portable but unindexed */
+    LIKE,
+    /** PostgreSQL tsvector column with a GIN index and ts_rank ordering */
+    FULLTEXT,
+    /** In-process inverted index, no database-specific features required */
+    EMBEDDED
+}
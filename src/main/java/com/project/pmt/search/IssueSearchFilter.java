@@ -0,0 +1,17 @@
+package com.project.pmt.search;
+
+import com.project.pmt.enums.IssueStatus;
+import com.project.pmt.enums.Priority;
+
+/**
+ * Optional equality filters applied alongside a text query; null fields are ignored
+ */
+public record IssueSearchFilter(
+        Long projectId,
+        Long assigneeId,
+        Long reporterId,
+        IssueStatus status,
+        Priority priority,
+        Long sprintId
+) {
+}
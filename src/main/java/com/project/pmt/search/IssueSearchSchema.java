@@ -0,0 +1,116 @@
+package com.project.pmt.search;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Issue Search Schema
+ * Installs the full-text search column on issues and keeps it current with triggers:
+ * the issue key and title weigh most, then the description, then the bodies of all comments.
+ * Updates only recompute the vector when the key, title or description actually changed, so
+ * board moves and other saves do not re-aggregate the issue's comments.
+ * Every statement is idempotent, so this runs safely on each startup. Rows created before the
+ * column existed are backfilled in small batches to avoid holding long locks.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+@ConditionalOnProperty(name = "issue.search.engine", havingValue = "fulltext", matchIfMissing = true)
+public class IssueSearchSchema implements ApplicationRunner {
+
+    private static final int BACKFILL_BATCH_SIZE = 10000;
+
+    private static final List<String> DDL = List.of(
+            "ALTER TABLE issues ADD COLUMN IF NOT EXISTS search_vector tsvector",
+            """
+            CREATE OR REPLACE FUNCTION issue_search_vector(p_issue_id bigint, p_issue_key text, p_title text, p_description text)
+            RETURNS tsvector LANGUAGE sql STABLE AS $$
+                SELECT setweight(to_tsvector('simple', coalesce(p_issue_key, '')), 'A')
+                    || setweight(to_tsvector('english', coalesce(p_title, '')), 'A')
+                    || setweight(to_tsvector('english', coalesce(p_description, '')), 'B')
+                    || setweight(to_tsvector('english', coalesce(
+                           (SELECT string_agg(c.body, ' ') FROM comments c WHERE c.issue_id = p_issue_id), '')), 'C')
+            $$
+            """,
+            """
+            CREATE OR REPLACE FUNCTION issues_search_vector_trigger() RETURNS trigger LANGUAGE plpgsql AS $$
+            BEGIN
+                NEW.search_vector := issue_search_vector(NEW.id, NEW.issue_key, NEW.title, NEW.description);
+                RETURN NEW;
+            END
+            $$
+            """,
+            "DROP TRIGGER IF EXISTS issues_search_vector_insert ON issues",
+            """
+            CREATE TRIGGER issues_search_vector_insert
+            BEFORE INSERT ON issues
+            FOR EACH ROW EXECUTE FUNCTION issues_search_vector_trigger()
+            """,
+            // Hibernate writes every column on update, so compare values instead of relying on UPDATE OF
+            "DROP TRIGGER IF EXISTS issues_search_vector_update ON issues",
+            """
+            CREATE TRIGGER issues_search_vector_update
+            BEFORE UPDATE OF issue_key, title, description ON issues
+            FOR EACH ROW
+            WHEN (OLD.issue_key IS DISTINCT FROM NEW.issue_key
+                  OR OLD.title IS DISTINCT FROM NEW.title
+                  OR OLD.description IS DISTINCT FROM NEW.description)
+            EXECUTE FUNCTION issues_search_vector_trigger()
+            """,
+            """
+            CREATE OR REPLACE FUNCTION comments_search_vector_trigger() RETURNS trigger LANGUAGE plpgsql AS $$
+            DECLARE
+                target_issue_id bigint;
+            BEGIN
+                IF TG_OP = 'DELETE' THEN
+                    target_issue_id := OLD.issue_id;
+                ELSE
+                    target_issue_id := NEW.issue_id;
+                END IF;
+                UPDATE issues i
+                SET search_vector = issue_search_vector(i.id, i.issue_key, i.title, i.description)
+                WHERE i.id = target_issue_id;
+                RETURN NULL;
+            END
+            $$
+            """,
+            "DROP TRIGGER IF EXISTS comments_search_vector_update ON comments",
+            """
+            CREATE TRIGGER comments_search_vector_update
+            AFTER INSERT OR DELETE OR UPDATE OF body ON comments
+            FOR EACH ROW EXECUTE FUNCTION comments_search_vector_trigger()
+            """,
+            "CREATE INDEX IF NOT EXISTS index_issue_search_vector ON issues USING GIN (search_vector)"
+    );
+
+    private static final String BACKFILL = """
+            UPDATE issues i
+            SET search_vector = issue_search_vector(i.id, i.issue_key, i.title, i.description)
+            WHERE i.id IN (SELECT id FROM issues WHERE search_vector IS NULL LIMIT ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        DDL.forEach(jdbcTemplate::execute);
+
+        int total = 0;
+        int updated;
+        do {
+            updated = jdbcTemplate.update(BACKFILL, BACKFILL_BATCH_SIZE);
+            total += updated;
+        } while (updated > 0);
+
+        if (total > 0) {
+            log.info("Backfilled search vectors for {} issues", total);
+        }
+    }
+}
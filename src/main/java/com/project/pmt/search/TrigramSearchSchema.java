@@ -0,0 +1,42 @@
+package com.project.pmt.search;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Trigram Search Schema
+ * Installs pg_trgm and GIN trigram indexes on the lower-cased text columns that the search
+ * queries match with LOWER(column) LIKE '%text%', so substring searches and quick find use
+ * an index instead of scanning the table. Every statement is idempotent.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+@ConditionalOnProperty(name = "search.quick-find.enabled", havingValue = "true", matchIfMissing = true)
+public class TrigramSearchSchema implements ApplicationRunner {
+
+    private static final List<String> DDL = List.of(
+            "CREATE EXTENSION IF NOT EXISTS pg_trgm",
+            "CREATE INDEX IF NOT EXISTS index_issue_key_trgm ON issues USING GIN (lower(issue_key) gin_trgm_ops)",
+            "CREATE INDEX IF NOT EXISTS index_issue_title_trgm ON issues USING GIN (lower(title) gin_trgm_ops)",
+            "CREATE INDEX IF NOT EXISTS index_issue_description_trgm ON issues USING GIN (lower(description) gin_trgm_ops)",
+            "CREATE INDEX IF NOT EXISTS index_project_key_trgm ON projects USING GIN (lower(key) gin_trgm_ops)",
+            "CREATE INDEX IF NOT EXISTS index_project_name_trgm ON projects USING GIN (lower(name) gin_trgm_ops)",
+            "CREATE INDEX IF NOT EXISTS index_project_description_trgm ON projects USING GIN (lower(description) gin_trgm_ops)"
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        DDL.forEach(jdbcTemplate::execute);
+        log.debug("Trigram search indexes are in place");
+    }
+}
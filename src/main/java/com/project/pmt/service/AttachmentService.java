@@ -8,6 +8,8 @@ import com.project.pmt.exceptions.FileUploadException;
 import com.project.pmt.exceptions.ResourceNotFoundException;
 import com.project.pmt.mapper.AttachmentMapper;
 import com.project.pmt.repository.AttachmentRepository;
+import com.project.pmt.storage.AttachmentStore;
+import com.project.pmt.storage.StoredObject;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 
@@ -15,16 +17,11 @@ import lombok.extern.slf4j.Slf4j;
 
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
 import org.springframework.web.multipart.MultipartFile;
-import software.amazon.awssdk.core.sync.RequestBody;
-import software.amazon.awssdk.services.s3.S3Client;
-import software.amazon.awssdk.services.s3.model.PutObjectRequest;
 
 import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.Paths;
-import java.nio.file.StandardCopyOption;
+import java.io.InputStream;
 import java.util.List;
 import java.util.UUID;
 import java.util.stream.Collectors;
@@ -38,16 +35,7 @@ public class AttachmentService {
     private final IssueService issueService;
     private final UserService userService;
     private final AttachmentMapper attachmentMapper;
-    private final S3Client s3Client;
-
-    @Value("${file.upload.dir:./uploads}")
-    private String uploadDir;
-
-    @Value("${aws.s3.enabled:false}")
-    private boolean s3Enabled;
-
-    @Value("${aws.s3.bucket:}")
-    private String s3Bucket;
+    private final AttachmentStore attachmentStore;
 
     @Value("${file.upload.max-size:10485760}")
     private long maxFileSize;
@@ -68,15 +56,12 @@ public class AttachmentService {
         User user = userService.getCurrentUserEntity();
 
         String originalFilename = file.getOriginalFilename();
-        String filename = UUID.randomUUID().toString() + "_" + originalFilename;
-        String fileUrl;
+        String filename = UUID.randomUUID() + "_" + StringUtils.getFilename(StringUtils.cleanPath(String.valueOf(originalFilename)));
+        StoredObject stored;
 
-        try {
-            if (s3Enabled) {
-                fileUrl = uploadToS3(file, filename);
-            } else {
-                fileUrl = uploadToLocal(file, filename);
-            }
+        // Stream the upload into storage instead of loading it onto the heap
+        try (InputStream content = file.getInputStream()) {
+            stored = attachmentStore.store(filename, file.getContentType(), content);
         } catch (IOException e) {
             log.error("Error uploading file", e);
             throw new FileUploadException("Failed to upload file", filename, e);
@@ -85,9 +70,10 @@ public class AttachmentService {
         Attachment attachment = new Attachment();
         attachment.setIssue(issue);
         attachment.setFilename(originalFilename);
-        attachment.setUrl(fileUrl);
+        attachment.setUrl(stored.url());
         attachment.setContentType(file.getContentType());
-        attachment.setSize(file.getSize());
+        attachment.setSize(stored.size());
+        attachment.setSha256(stored.sha256());
         attachment.setUploadedBy(user);
 
         attachment = attachmentRepository.save(attachment);
@@ -96,30 +82,6 @@ public class AttachmentService {
         return attachmentMapper.toResponse(attachment);
     }
 
-    private String uploadToLocal(MultipartFile file, String filename) throws IOException {
-        Path uploadPath = Paths.get(uploadDir);
-        if (!Files.exists(uploadPath)) {
-            Files.createDirectories(uploadPath);
-        }
-
-        Path filePath = uploadPath.resolve(filename);
-        Files.copy(file.getInputStream(), filePath, StandardCopyOption.REPLACE_EXISTING);
-
-        return "/uploads/" + filename;
-    }
-
-    private String uploadToS3(MultipartFile file, String filename) throws IOException {
-        PutObjectRequest putObjectRequest = PutObjectRequest.builder()
-                .bucket(s3Bucket)
-                .key(filename)
-                .contentType(file.getContentType())
-                .build();
-
-        s3Client.putObject(putObjectRequest, RequestBody.fromBytes(file.getBytes()));
-
-        return String.format("https://%s.s3.amazonaws.com/%s", s3Bucket, filename);
-    }
-
     public AttachmentResponse getAttachmentById(Long id) {
         Attachment attachment = attachmentRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Attachment", "id", id));
@@ -141,13 +103,8 @@ public class AttachmentService {
 
         // Delete file from storage
         try {
-            if (s3Enabled) {
-                // Delete from S3 (implement S3 delete)
-            } else {
-                Path filePath = Paths.get(uploadDir).resolve(attachment.getFilename());
-                Files.deleteIfExists(filePath);
-            }
-        } catch (IOException e) {
+            attachmentStore.delete(attachment.getUrl());
+        } catch (IOException | RuntimeException e) {
             log.error("Error deleting file", e);
         }
 
@@ -2,6 +2,7 @@ package com.project.pmt.service;
 
 
 
+import com.project.pmt.cache.UserCache;
 import com.project.pmt.dto.request.LoginRequest;
 import com.project.pmt.dto.request.RegisterRequest;
 import com.project.pmt.dto.response.AuthResponse;
@@ -35,6 +36,7 @@ import java.util.Collections;
 public class AuthService implements UserDetailsService {
 
     private final UserRepository userRepository;
+    private final UserCache userCache;
     private final PasswordEncoder passwordEncoder;
     private final JwtService jwtService;
     private final AuthenticationManager authenticationManager;
@@ -47,7 +49,7 @@ public class AuthService implements UserDetailsService {
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
         log.debug("Loading user by username: {}", username);
 
-        User user = userRepository.findByUsername(username)
+        User user = userCache.findByUsername(username)
                 .orElseThrow(() -> new UsernameNotFoundException("User not found with username: " + username));
 
         if (!user.getIsActive()) {
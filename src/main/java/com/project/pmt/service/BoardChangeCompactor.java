@@ -0,0 +1,43 @@
+package com.project.pmt.service;
+
+import com.project.pmt.repository.BoardChangeRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * Board Change Compactor
+ * Keeps the board change log small. Entries superseded by a later change of the same issue are
+ * dropped, since a delta only needs the latest one, and entries past the retention period are
+ * dropped with the project's compacted version raised past them, so clients that are further
+ * behind are told to reload the whole board.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class BoardChangeCompactor {
+
+    private final BoardChangeRepository boardChangeRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${board.changes.retention:P1D}")
+    private Duration retention;
+
+    @Scheduled(fixedDelayString = "${board.changes.compaction-interval:600000}")
+    public void compact() {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        int superseded = transactionTemplate.execute(txStatus -> boardChangeRepository.deleteSuperseded());
+        int projects = transactionTemplate.execute(txStatus ->
+                boardChangeRepository.deleteOlderThan(LocalDateTime.now().minus(retention)));
+        if (superseded > 0 || projects > 0) {
+            log.info("Compacted board changes: {} superseded entries removed, {} projects expired", superseded, projects);
+        }
+    }
+}
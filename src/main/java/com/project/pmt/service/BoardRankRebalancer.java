@@ -0,0 +1,61 @@
+package com.project.pmt.service;
+
+import com.project.pmt.dto.projection.BoardColumn;
+import com.project.pmt.enums.IssueStatus;
+import com.project.pmt.repository.IssueRepository;
+import com.project.pmt.util.LexoRank;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * Board Rank Rebalancer
+ * Repeated drops into the same gap make rank strings grow. This job finds columns with
+ * ranks longer than the configured limit, issues that have no rank yet or cards sharing a
+ * rank, and rewrites the whole column with short, evenly spaced ranks, one column per
+ * transaction. The board lock is held while the column is rewritten, so a concurrent move
+ * either commits before the column is read or waits for the new ranks.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class BoardRankRebalancer {
+
+    private final IssueRepository issueRepository;
+    private final BoardVersionService boardVersionService;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${board.rank.max-length:24}")
+    private int maxRankLength;
+
+    @Scheduled(fixedDelayString = "${board.rank.rebalance-interval:300000}")
+    public void rebalance() {
+        List<BoardColumn> columns = issueRepository.findColumnsNeedingRebalance(maxRankLength);
+        for (BoardColumn column : columns) {
+            rebalanceColumn(column.getProjectId(), column.getStatus());
+        }
+    }
+
+    /**
+     * Rewrite a column's ranks; joins the caller's transaction when there is one
+     */
+    public void rebalanceColumn(Long projectId, IssueStatus status) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.executeWithoutResult(txStatus -> {
+            boardVersionService.lockBoard(projectId);
+            List<Long> issueIds = issueRepository.findIdsInBoardOrder(projectId, status);
+            List<String> ranks = LexoRank.evenlySpaced(issueIds.size());
+            for (int i = 0; i < issueIds.size(); i++) {
+                issueRepository.updateBoardRank(issueIds.get(i), ranks.get(i));
+            }
+            boardVersionService.record(projectId, issueIds);
+            log.info("Rebalanced board column: project {} status {} ({} issues)", projectId, status, issueIds.size());
+        });
+    }
+}
@@ -0,0 +1,162 @@
+package com.project.pmt.service;
+
+import com.project.pmt.dto.projection.BoardCardView;
+import com.project.pmt.dto.response.BoardCardResponse;
+import com.project.pmt.dto.response.BoardColumnResponse;
+import com.project.pmt.dto.response.BoardDeltaResponse;
+import com.project.pmt.dto.response.BoardResponse;
+import com.project.pmt.enums.IssueStatus;
+import com.project.pmt.exceptions.ResourceNotFoundException;
+import com.project.pmt.repository.BoardChangeRepository;
+import com.project.pmt.repository.IssueRepository;
+import com.project.pmt.repository.SprintRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Board Service
+ * Serves a whole Kanban board, every status column of a project or one of its sprints, from a
+ * single card query. Boards are versioned by BoardVersionService so clients can revalidate them
+ * with If-None-Match, or fetch only the cards changed after the version they already have.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class BoardService {
+
+    private final IssueRepository issueRepository;
+    private final SprintRepository sprintRepository;
+    private final BoardChangeRepository boardChangeRepository;
+    private final BoardVersionService boardVersionService;
+
+    @Value("${board.changes.max-per-delta:500}")
+    private int maxChangesPerDelta;
+
+    /**
+     * ETag of a board's current version, checked before loading any cards
+     */
+    public String getBoardETag(Long projectId, Long sprintId) {
+        long version = boardVersionService.getVersion(projectId);
+        checkSprint(projectId, sprintId);
+        return eTag(projectId, sprintId, version);
+    }
+
+    /**
+     * All columns of a board in status order, cards in board rank order.
+     * The version is read before the cards, so it is never newer than them.
+     */
+    public BoardResponse getBoard(Long projectId, Long sprintId) {
+        long version = boardVersionService.getVersion(projectId);
+        checkSprint(projectId, sprintId);
+
+        List<BoardCardView> cards = sprintId != null
+                ? issueRepository.findBoardCardsBySprintId(sprintId)
+                : issueRepository.findBoardCardsByProjectId(projectId);
+
+        Map<IssueStatus, List<BoardCardResponse>> cardsByStatus = new EnumMap<>(IssueStatus.class);
+        for (IssueStatus status : IssueStatus.values()) {
+            cardsByStatus.put(status, new ArrayList<>());
+        }
+        for (BoardCardView card : cards) {
+            cardsByStatus.get(card.getStatus()).add(toCard(card));
+        }
+
+        List<BoardColumnResponse> columns = new ArrayList<>(cardsByStatus.size());
+        cardsByStatus.forEach((status, columnCards) -> columns.add(BoardColumnResponse.builder()
+                .status(status)
+                .displayName(status.getDisplayName())
+                .cards(columnCards)
+                .build()));
+
+        return BoardResponse.builder()
+                .projectId(projectId)
+                .sprintId(sprintId)
+                .version(version)
+                .columns(columns)
+                .build();
+    }
+
+    /**
+     * Cards changed on a board after the given version, in their current state.
+     * Cards are read after the version, so they may be newer than it; applying them again on the
+     * next delta is harmless. Clients too far behind, or behind compaction, are told to reload.
+     */
+    public BoardDeltaResponse getBoardChanges(Long projectId, Long sprintId, long sinceVersion) {
+        long version = boardVersionService.getVersion(projectId);
+        checkSprint(projectId, sprintId);
+
+        BoardDeltaResponse.BoardDeltaResponseBuilder delta = BoardDeltaResponse.builder()
+                .projectId(projectId)
+                .sprintId(sprintId)
+                .fromVersion(sinceVersion)
+                .version(version)
+                .changed(List.of())
+                .removed(List.of());
+        if (sinceVersion > version || sinceVersion < boardVersionService.getCompactedVersion(projectId)) {
+            return delta.reloadRequired(true).build();
+        }
+        if (sinceVersion == version) {
+            return delta.build();
+        }
+
+        List<Long> issueIds = boardChangeRepository.findChangedIssueIds(
+                projectId, sinceVersion, version, Limit.of(maxChangesPerDelta + 1));
+        if (issueIds.size() > maxChangesPerDelta) {
+            return delta.reloadRequired(true).build();
+        }
+
+        Map<Long, BoardCardView> cardsById = new HashMap<>();
+        for (BoardCardView card : issueRepository.findBoardCardsByIdIn(issueIds)) {
+            if (sprintId == null || sprintId.equals(card.getSprintId())) {
+                cardsById.put(card.getId(), card);
+            }
+        }
+        List<BoardCardResponse> changed = new ArrayList<>(cardsById.size());
+        List<Long> removed = new ArrayList<>();
+        for (Long issueId : issueIds) {
+            BoardCardView card = cardsById.get(issueId);
+            if (card != null) {
+                changed.add(toCard(card));
+            } else {
+                removed.add(issueId);
+            }
+        }
+        return delta.changed(changed).removed(removed).build();
+    }
+
+    public static String eTag(Long projectId, Long sprintId, long version) {
+        return sprintId != null
+                ? String.format("\"board-%d-sprint-%d-v%d\"", projectId, sprintId, version)
+                : String.format("\"board-%d-v%d\"", projectId, version);
+    }
+
+    private void checkSprint(Long projectId, Long sprintId) {
+        if (sprintId != null && !sprintRepository.existsByIdAndProjectId(sprintId, projectId)) {
+            throw new ResourceNotFoundException("Sprint", "id", sprintId);
+        }
+    }
+
+    private BoardCardResponse toCard(BoardCardView card) {
+        return BoardCardResponse.builder()
+                .id(card.getId())
+                .issueKey(card.getIssueKey())
+                .title(card.getTitle())
+                .type(card.getType())
+                .priority(card.getPriority())
+                .status(card.getStatus())
+                .boardRank(card.getBoardRank())
+                .assigneeId(card.getAssigneeId())
+                .assigneeName(card.getAssigneeName())
+                .assigneeAvatarUrl(card.getAssigneeAvatarUrl())
+                .build();
+    }
+}
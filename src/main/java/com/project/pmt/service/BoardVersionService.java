@@ -0,0 +1,84 @@
+package com.project.pmt.service;
+
+import com.project.pmt.entity.BoardVersion;
+import com.project.pmt.event.IssueChangedEvent;
+import com.project.pmt.exceptions.ResourceNotFoundException;
+import com.project.pmt.repository.BoardVersionRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Board Version Service
+ * Keeps one counter per project that changes whenever any of its issues changes, and logs which
+ * issues each version touched. Both are written inside the writing transaction, so a board ETag
+ * can never be newer than the cards it describes and every application instance sees the same
+ * value. The counter row stays locked until commit, so the versions of a project become visible
+ * in order and a client reading changes after its last version never skips one.
+ */
+@Service
+@RequiredArgsConstructor
+public class BoardVersionService {
+
+    private static final String INSERT_CHANGE_SQL =
+            "INSERT INTO board_changes (project_id, version, issue_id, created_at) VALUES (?, ?, ?, ?)";
+
+    private final BoardVersionRepository boardVersionRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    @EventListener
+    public void onIssueChanged(IssueChangedEvent event) {
+        // Project id order, so concurrent writers lock version rows alike
+        for (Map.Entry<Long, Set<Long>> entry : new TreeMap<>(event.issueIdsByProject()).entrySet()) {
+            record(entry.getKey(), entry.getValue());
+        }
+    }
+
+    /**
+     * Bump a project's board version and log the issues it touched
+     * @return New board version
+     */
+    public long record(Long projectId, Collection<Long> issueIds) {
+        long version = boardVersionRepository.bump(projectId);
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> rows = new ArrayList<>(issueIds.size());
+        for (Long issueId : issueIds) {
+            rows.add(new Object[]{projectId, version, issueId, now});
+        }
+        jdbcTemplate.batchUpdate(INSERT_CHANGE_SQL, rows);
+        return version;
+    }
+
+    /**
+     * Serialize board rank writers of a project until the current transaction ends.
+     * Takes the same row lock as record(), so a rank read after this call stays the last one until commit.
+     */
+    public void lockBoard(Long projectId) {
+        boardVersionRepository.lock(projectId);
+    }
+
+    public long getVersion(Long projectId) {
+        return boardVersionRepository.findVersionByProjectId(projectId)
+                .orElseThrow(() -> new ResourceNotFoundException("Project", "id", projectId));
+    }
+
+    /**
+     * Highest version whose changes may have been compacted away, 0 if none were
+     */
+    public long getCompactedVersion(Long projectId) {
+        return boardVersionRepository.findById(projectId)
+                .map(BoardVersion::getCompactedVersion)
+                .orElse(0L);
+    }
+}
@@ -4,6 +4,7 @@ package com.project.pmt.service;
 import com.project.pmt.dto.request.CreateCommentRequest;
 import com.project.pmt.dto.request.UpdateCommentRequest;
 import com.project.pmt.dto.response.CommentResponse;
+import com.project.pmt.dto.response.CursorPageResponse;
 import com.project.pmt.entity.Comment;
 import com.project.pmt.entity.Issue;
 import com.project.pmt.entity.User;
@@ -11,8 +12,11 @@ import com.project.pmt.enums.NotificationType;
 import com.project.pmt.exceptions.ResourceNotFoundException;
 import com.project.pmt.mapper.CommentMapper;
 import com.project.pmt.repository.CommentRepository;
+import com.project.pmt.util.CursorPages;
+import com.project.pmt.util.SeekCursor;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -50,7 +54,7 @@ public class CommentService {
         log.info("Comment created successfully: {}", comment.getId());
 
         // Send notification to issue assignee if not the commenter
-        if (issue.getAssignee() != null && !issue.getAssignee().equals(user)) {
+        if (issue.getAssignee() != null && !issue.getAssignee().getId().equals(user.getId())) {
             notificationService.createNotification(
                     issue.getAssignee(),
                     NotificationType.COMMENT,
@@ -75,6 +79,23 @@ public class CommentService {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Keyset page of an issue's comments, oldest first; the total is only counted on request
+     */
+    public CursorPageResponse<CommentResponse> getCommentsByIssuePage(
+            Long issueId, String cursor, int size, boolean includeTotal) {
+        SeekCursor after = SeekCursor.decode(cursor);
+        int pageSize = CursorPages.clampSize(size);
+        Limit limit = Limit.of(pageSize + 1);
+
+        List<Comment> comments = after == null
+                ? commentRepository.findByIssueIdOrderByIdAsc(issueId, limit)
+                : commentRepository.findByIssueIdAndIdGreaterThanOrderByIdAsc(issueId, after.id(), limit);
+        return CursorPages.of(comments, pageSize, comment -> SeekCursor.ofId(comment.getId()),
+                page -> page.stream().map(commentMapper::toResponse).collect(Collectors.toList()),
+                includeTotal ? commentRepository.countByIssueId(issueId) : null);
+    }
+
     @Transactional
     public CommentResponse updateComment(Long id, UpdateCommentRequest request) {
         log.info("Updating comment: {}", id);
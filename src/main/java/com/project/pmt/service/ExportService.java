@@ -4,17 +4,26 @@ import com.project.pmt.entity.Issue;
 import com.project.pmt.enums.IssueStatus;
 import com.project.pmt.enums.Priority;
 import com.project.pmt.repository.IssueRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.poi.ss.usermodel.*;
-import org.apache.poi.xssf.usermodel.XSSFWorkbook;
-import org.springframework.data.domain.Pageable;
+import org.apache.poi.xssf.streaming.SXSSFSheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
-import java.io.ByteArrayOutputStream;
+import java.io.BufferedWriter;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.time.format.DateTimeFormatter;
-import java.util.List;
+import java.util.Iterator;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
@@ -24,23 +33,54 @@ public class ExportService {
     private final IssueRepository issueRepository;
     private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
 
-    public byte[] exportIssuesToExcel(
+    private static final String[] COLUMNS = {
+            "Issue Key", "Title", "Type", "Priority", "Status",
+            "Assignee", "Reporter", "Sprint", "Created At", "Updated At"
+    };
+
+    // Excel caps column width at 255 characters
+    private static final int MAX_COLUMN_WIDTH_CHARS = 255;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Value("${export.clear-interval:1000}")
+    private int clearInterval;
+
+    @Value("${export.excel.rows-in-memory:100}")
+    private int excelRowsInMemory;
+
+    @Value("${export.excel.width-sample-rows:200}")
+    private int excelWidthSampleRows;
+
+    /**
+     * Stream issues to an Excel workbook.
+     * Uses SXSSF so only a bounded window of rows is kept in memory; older rows are
+     * flushed to a compressed temp file and the finished workbook is written straight
+     * to the output stream. Column widths are estimated from the first sampled rows
+     * instead of auto-sizing, which would rescan every row.
+     */
+    @Transactional(readOnly = true)
+    public long streamIssuesToExcel(
             Long projectId,
             Long assigneeId,
             Long reporterId,
             IssueStatus status,
             Priority priority,
             Long sprintId,
-            String search) throws IOException {
+            String search,
+            OutputStream outputStream) throws IOException {
 
-        log.info("Exporting issues to Excel");
+        log.info("Streaming issues to Excel");
 
-        List<Issue> issues = issueRepository.searchIssues(
-                projectId, assigneeId, reporterId, status, priority, sprintId, search, Pageable.unpaged()
-        ).getContent();
+        SXSSFWorkbook workbook = new SXSSFWorkbook(excelRowsInMemory);
+        workbook.setCompressTempFiles(true);
+        long count = 0;
 
-        try (Workbook workbook = new XSSFWorkbook(); ByteArrayOutputStream out = new ByteArrayOutputStream()) {
-            Sheet sheet = workbook.createSheet("Issues");
+        try (Stream<Issue> issues = issueRepository.streamIssuesForExport(
+                projectId, assigneeId, reporterId, status, priority, sprintId, search)) {
+
+            SXSSFSheet sheet = workbook.createSheet("Issues");
 
             // Create header style
             CellStyle headerStyle = workbook.createCellStyle();
@@ -52,81 +92,118 @@ public class ExportService {
 
             // Create header row
             Row headerRow = sheet.createRow(0);
-            String[] columns = {
-                    "Issue Key", "Title", "Type", "Priority", "Status",
-                    "Assignee", "Reporter", "Sprint", "Created At", "Updated At"
-            };
-
-            for (int i = 0; i < columns.length; i++) {
+            int[] widths = new int[COLUMNS.length];
+            for (int i = 0; i < COLUMNS.length; i++) {
                 Cell cell = headerRow.createCell(i);
-                cell.setCellValue(columns[i]);
+                cell.setCellValue(COLUMNS[i]);
                 cell.setCellStyle(headerStyle);
+                widths[i] = COLUMNS[i].length();
             }
 
             // Fill data rows
             int rowNum = 1;
-            for (Issue issue : issues) {
+            Iterator<Issue> iterator = issues.iterator();
+            while (iterator.hasNext()) {
+                String[] values = toRowValues(iterator.next());
                 Row row = sheet.createRow(rowNum++);
 
-                row.createCell(0).setCellValue(issue.getIssueKey());
-                row.createCell(1).setCellValue(issue.getTitle());
-                row.createCell(2).setCellValue(issue.getType().name());
-                row.createCell(3).setCellValue(issue.getPriority().name());
-                row.createCell(4).setCellValue(issue.getStatus().name());
-                row.createCell(5).setCellValue(issue.getAssignee() != null ? issue.getAssignee().getFullName() : "Unassigned");
-                row.createCell(6).setCellValue(issue.getReporter() != null ? issue.getReporter().getFullName() : "");
-                row.createCell(7).setCellValue(issue.getSprint() != null ? issue.getSprint().getName() : "No Sprint");
-                row.createCell(8).setCellValue(issue.getCreatedAt().format(DATE_FORMATTER));
-                row.createCell(9).setCellValue(issue.getUpdatedAt().format(DATE_FORMATTER));
+                for (int i = 0; i < values.length; i++) {
+                    row.createCell(i).setCellValue(values[i]);
+                    if (count < excelWidthSampleRows && values[i] != null) {
+                        widths[i] = Math.max(widths[i], values[i].length());
+                    }
+                }
+
+                // Release exported rows so the persistence context does not grow with the export
+                if (++count % clearInterval == 0) {
+                    entityManager.clear();
+                }
             }
 
-            // Auto-size columns
-            for (int i = 0; i < columns.length; i++) {
-                sheet.autoSizeColumn(i);
+            // Estimated column widths (units of 1/256th of a character, plus padding)
+            for (int i = 0; i < COLUMNS.length; i++) {
+                sheet.setColumnWidth(i, Math.min(widths[i] + 2, MAX_COLUMN_WIDTH_CHARS) * 256);
             }
 
-            workbook.write(out);
-            log.info("Issues exported successfully. Count: {}", issues.size());
-            return out.toByteArray();
+            workbook.write(outputStream);
+            outputStream.flush();
+        } finally {
+            workbook.dispose();
+            workbook.close();
         }
+
+        log.info("Issues streamed successfully. Count: {}", count);
+        return count;
     }
 
-    public String exportIssuesToCSV(
+    /**
+     * Stream issues to CSV row by row.
+     * Rows are read through a database cursor and written straight to the output stream,
+     * and the persistence context is cleared periodically so heap usage stays flat
+     * regardless of how many issues match the filters.
+     */
+    @Transactional(readOnly = true)
+    public long streamIssuesToCSV(
             Long projectId,
             Long assigneeId,
             Long reporterId,
             IssueStatus status,
             Priority priority,
             Long sprintId,
-            String search) {
-
-        log.info("Exporting issues to CSV");
-
-        List<Issue> issues = issueRepository.searchIssues(
-                projectId, assigneeId, reporterId, status, priority, sprintId, search, Pageable.unpaged()
-        ).getContent();
-
-        StringBuilder csv = new StringBuilder();
-
-        // Header
-        csv.append("Issue Key,Title,Type,Priority,Status,Assignee,Reporter,Sprint,Created At,Updated At\n");
-
-        // Data rows
-        for (Issue issue : issues) {
-            csv.append(escapeCsv(issue.getIssueKey())).append(",");
-            csv.append(escapeCsv(issue.getTitle())).append(",");
-            csv.append(escapeCsv(issue.getType().name())).append(",");
-            csv.append(escapeCsv(issue.getPriority().name())).append(",");
-            csv.append(escapeCsv(issue.getStatus().name())).append(",");
-            csv.append(escapeCsv(issue.getAssignee() != null ? issue.getAssignee().getFullName() : "Unassigned")).append(",");
-            csv.append(escapeCsv(issue.getReporter() != null ? issue.getReporter().getFullName() : "")).append(",");
-            csv.append(escapeCsv(issue.getSprint() != null ? issue.getSprint().getName() : "No Sprint")).append(",");
-            csv.append(escapeCsv(issue.getCreatedAt().format(DATE_FORMATTER))).append(",");
-            csv.append(escapeCsv(issue.getUpdatedAt().format(DATE_FORMATTER))).append("\n");
+            String search,
+            OutputStream outputStream) throws IOException {
+
+        log.info("Streaming issues to CSV");
+
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        long count = 0;
+
+        try (Stream<Issue> issues = issueRepository.streamIssuesForExport(
+                projectId, assigneeId, reporterId, status, priority, sprintId, search)) {
+
+            // Header
+            writer.write(String.join(",", COLUMNS));
+            writer.write('\n');
+
+            // Data rows
+            Iterator<Issue> iterator = issues.iterator();
+            while (iterator.hasNext()) {
+                String[] values = toRowValues(iterator.next());
+
+                for (int i = 0; i < values.length; i++) {
+                    if (i > 0) {
+                        writer.write(',');
+                    }
+                    writer.write(escapeCsv(values[i]));
+                }
+                writer.write('\n');
+
+                // Release exported rows so the persistence context does not grow with the export
+                if (++count % clearInterval == 0) {
+                    writer.flush();
+                    entityManager.clear();
+                }
+            }
         }
 
-        log.info("Issues exported successfully. Count: {}", issues.size());
-        return csv.toString();
+        writer.flush();
+        log.info("Issues streamed successfully. Count: {}", count);
+        return count;
+    }
+
+    private String[] toRowValues(Issue issue) {
+        return new String[]{
+                issue.getIssueKey(),
+                issue.getTitle(),
+                issue.getType().name(),
+                issue.getPriority().name(),
+                issue.getStatus().name(),
+                issue.getAssignee() != null ? issue.getAssignee().getFullName() : "Unassigned",
+                issue.getReporter() != null ? issue.getReporter().getFullName() : "",
+                issue.getSprint() != null ? issue.getSprint().getName() : "No Sprint",
+                issue.getCreatedAt().format(DATE_FORMATTER),
+                issue.getUpdatedAt().format(DATE_FORMATTER)
+        };
     }
 
     private String escapeCsv(String value) {
@@ -0,0 +1,194 @@
+package com.project.pmt.service;
+
+import com.project.pmt.dto.response.CumulativeFlowDayResponse;
+import com.project.pmt.dto.response.CumulativeFlowResponse;
+import com.project.pmt.dto.response.CycleTimeResponse;
+import com.project.pmt.dto.response.PercentilesResponse;
+import com.project.pmt.enums.IssueStatus;
+import com.project.pmt.exceptions.BadRequestException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Flow Analytics Service
+ * Cumulative flow and lead/cycle time of a project, read from the aggregates IssueTransitionWriter
+ * maintains: per-day entered/exited counts per status and one cycle time row per done issue.
+ * A cumulative flow range costs one row per day and status plus a single baseline sum, and cycle
+ * time percentiles only read the issues completed in the range.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class FlowAnalyticsService implements ApplicationRunner {
+
+    private static final String SEED_SQL = """
+            WITH seeded AS (
+                INSERT INTO issue_transitions (issue_id, project_id, from_status, to_status, transitioned_at, user_id)
+                SELECT i.id, i.project_id, NULL, i.status, now(), NULL FROM issues i
+                WHERE i.created_at < :createdBefore
+                  AND NOT EXISTS (SELECT 1 FROM issue_transitions t WHERE t.issue_id = i.id)
+                RETURNING project_id, to_status, transitioned_at)
+            INSERT INTO issue_status_daily (project_id, day, status, entered, exited)
+            SELECT project_id, CAST(transitioned_at AS date), to_status, count(*), 0 FROM seeded
+            GROUP BY project_id, CAST(transitioned_at AS date), to_status
+            ON CONFLICT (project_id, day, status) DO UPDATE SET entered = issue_status_daily.entered + EXCLUDED.entered
+            """;
+
+    private static final String BASELINE_SQL =
+            "SELECT status, sum(entered - exited) AS net FROM issue_status_daily " +
+            "WHERE project_id = :projectId AND day < :from GROUP BY status";
+
+    private static final String DAILY_SQL =
+            "SELECT day, status, entered - exited AS net FROM issue_status_daily " +
+            "WHERE project_id = :projectId AND day BETWEEN :from AND :to";
+
+    private static final String CYCLE_TIME_SQL = """
+            SELECT count(*) AS completed,
+                   avg(lead_time_hours) AS lead_avg,
+                   percentile_cont(0.5) WITHIN GROUP (ORDER BY lead_time_hours) AS lead_p50,
+                   percentile_cont(0.85) WITHIN GROUP (ORDER BY lead_time_hours) AS lead_p85,
+                   percentile_cont(0.95) WITHIN GROUP (ORDER BY lead_time_hours) AS lead_p95,
+                   avg(cycle_time_hours) AS cycle_avg,
+                   percentile_cont(0.5) WITHIN GROUP (ORDER BY cycle_time_hours) AS cycle_p50,
+                   percentile_cont(0.85) WITHIN GROUP (ORDER BY cycle_time_hours) AS cycle_p85,
+                   percentile_cont(0.95) WITHIN GROUP (ORDER BY cycle_time_hours) AS cycle_p95
+            FROM issue_cycle_times
+            WHERE project_id = :projectId AND completed_at >= :from AND completed_at < :toExclusive
+            """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${analytics.flow.max-range-days:1100}")
+    private int maxRangeDays;
+
+    @Value("${analytics.flow.default-range-days:90}")
+    private int defaultRangeDays;
+
+    @Value("${analytics.flow.seed-grace:PT10M}")
+    private Duration seedGrace;
+
+    /**
+     * Give issues that predate the transition log a creation entry, so they show up in cumulative flow.
+     * Recent issues are skipped: during a rolling deploy their creation transition may still be
+     * queued on another instance, and seeding them as well would count them twice.
+     */
+    @Override
+    public void run(ApplicationArguments args) {
+        new TransactionTemplate(transactionManager).executeWithoutResult(txStatus -> {
+            jdbcTemplate.getJdbcTemplate().query("SELECT pg_advisory_xact_lock(hashtext('issue_transitions_seed'))", rs -> {
+            });
+            int seeded = jdbcTemplate.update(SEED_SQL,
+                    new MapSqlParameterSource("createdBefore", LocalDateTime.now().minus(seedGrace)));
+            if (seeded > 0) {
+                log.info("Seeded issue transition log for existing issues ({} daily rows)", seeded);
+            }
+        });
+    }
+
+    /**
+     * Issues per status at the end of every day in the range
+     */
+    public CumulativeFlowResponse getCumulativeFlow(Long projectId, LocalDate from, LocalDate to) {
+        LocalDate end = to != null ? to : LocalDate.now();
+        LocalDate start = from != null ? from : end.minusDays(defaultRangeDays);
+        checkRange(start, end);
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("projectId", projectId)
+                .addValue("from", start)
+                .addValue("to", end);
+
+        Map<IssueStatus, Long> running = new EnumMap<>(IssueStatus.class);
+        for (IssueStatus status : IssueStatus.values()) {
+            running.put(status, 0L);
+        }
+        jdbcTemplate.query(BASELINE_SQL, params, rs -> {
+            running.merge(IssueStatus.valueOf(rs.getString("status")), rs.getLong("net"), Long::sum);
+        });
+
+        Map<LocalDate, Map<IssueStatus, Long>> changes = new HashMap<>();
+        jdbcTemplate.query(DAILY_SQL, params, rs -> {
+            changes.computeIfAbsent(rs.getObject("day", LocalDate.class), day -> new EnumMap<>(IssueStatus.class))
+                    .merge(IssueStatus.valueOf(rs.getString("status")), rs.getLong("net"), Long::sum);
+        });
+
+        List<CumulativeFlowDayResponse> days = new ArrayList<>();
+        for (LocalDate day = start; !day.isAfter(end); day = day.plusDays(1)) {
+            Map<IssueStatus, Long> dayChanges = changes.get(day);
+            if (dayChanges != null) {
+                dayChanges.forEach((status, net) -> running.merge(status, net, Long::sum));
+            }
+            days.add(CumulativeFlowDayResponse.builder()
+                    .day(day)
+                    .counts(new EnumMap<>(running))
+                    .build());
+        }
+
+        return CumulativeFlowResponse.builder()
+                .projectId(projectId)
+                .from(start)
+                .to(end)
+                .days(days)
+                .build();
+    }
+
+    /**
+     * Lead and cycle time percentiles of issues completed in the range
+     */
+    public CycleTimeResponse getCycleTime(Long projectId, LocalDate from, LocalDate to) {
+        LocalDate end = to != null ? to : LocalDate.now();
+        LocalDate start = from != null ? from : end.minusDays(defaultRangeDays);
+        checkRange(start, end);
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("projectId", projectId)
+                .addValue("from", start.atStartOfDay())
+                .addValue("toExclusive", end.plusDays(1).atStartOfDay());
+
+        return jdbcTemplate.queryForObject(CYCLE_TIME_SQL, params, (rs, rowNum) -> CycleTimeResponse.builder()
+                .projectId(projectId)
+                .from(start)
+                .to(end)
+                .completedIssues(rs.getLong("completed"))
+                .leadTimeHours(percentiles(rs, "lead"))
+                .cycleTimeHours(percentiles(rs, "cycle"))
+                .build());
+    }
+
+    private void checkRange(LocalDate from, LocalDate to) {
+        if (from.isAfter(to)) {
+            throw new BadRequestException("from must not be after to");
+        }
+        if (ChronoUnit.DAYS.between(from, to) > maxRangeDays) {
+            throw new BadRequestException("Date range must not exceed " + maxRangeDays + " days");
+        }
+    }
+
+    private static PercentilesResponse percentiles(ResultSet rs, String prefix) throws SQLException {
+        return PercentilesResponse.builder()
+                .average(rs.getObject(prefix + "_avg", Double.class))
+                .p50(rs.getObject(prefix + "_p50", Double.class))
+                .p85(rs.getObject(prefix + "_p85", Double.class))
+                .p95(rs.getObject(prefix + "_p95", Double.class))
+                .build();
+    }
+}
@@ -0,0 +1,111 @@
+package com.project.pmt.service;
+
+import com.project.pmt.entity.Project;
+import com.project.pmt.repository.IssueRepository;
+import com.project.pmt.repository.ProjectIssueSequenceRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Issue Key Allocator
+ * Hands out per-project issue numbers from blocks reserved in the project_issue_sequences table.
+ * Each node keeps its current block in memory and advances it with an atomic cursor, so issue
+ * creation needs neither a MAX() scan nor a lock. Numbers left in a block when the node stops
+ * are skipped, so keys stay unique but may have gaps.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class IssueKeyAllocator {
+
+    private final ProjectIssueSequenceRepository sequenceRepository;
+    private final IssueRepository issueRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    private final Map<Long, Block> blocks = new ConcurrentHashMap<>();
+    private final Map<Long, Lock> refillLocks = new ConcurrentHashMap<>();
+
+    @Value("${issue.key.block-size:20}")
+    private long blockSize;
+
+    public String nextIssueKey(Project project) {
+        return project.getKey() + "-" + nextIssueNumber(project);
+    }
+
+    public long nextIssueNumber(Project project) {
+        while (true) {
+            Block block = blocks.get(project.getId());
+            if (block != null) {
+                long value = block.cursor.getAndIncrement();
+                if (value <= block.last) {
+                    return value;
+                }
+            }
+            refill(project, block);
+        }
+    }
+
+    /**
+     * Reserve a new block once the current one is exhausted.
+     * The lock is per project, so the database round trip for one project's block never holds up
+     * allocation in other projects whose blocks run out at the same time.
+     */
+    private void refill(Project project, Block exhausted) {
+        Lock lock = refillLocks.computeIfAbsent(project.getId(), id -> new ReentrantLock());
+        lock.lock();
+        try {
+            // Another thread may have refilled while this one was waiting
+            if (blocks.get(project.getId()) != exhausted) {
+                return;
+            }
+            long last = reserveBlock(project);
+            blocks.put(project.getId(), new Block(last - blockSize + 1, last));
+            log.debug("Reserved issue numbers {}..{} for project {}", last - blockSize + 1, last, project.getKey());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Runs in its own short transaction so the sequence row lock is released
+     * before the surrounding issue insert commits.
+     */
+    private long reserveBlock(Project project) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        Long last = transactionTemplate.execute(status -> {
+            if (!sequenceRepository.existsById(project.getId())) {
+                // One-time seed from existing keys for projects created before the sequence table
+                Integer maxNumber = issueRepository.findMaxIssueNumber(project.getKey());
+                sequenceRepository.initialize(project.getId(), maxNumber != null ? maxNumber.longValue() : 0L);
+            }
+            return sequenceRepository.reserveBlock(project.getId(), blockSize);
+        });
+        if (last == null) {
+            throw new IllegalStateException("Could not reserve issue numbers for project " + project.getKey());
+        }
+        return last;
+    }
+
+    private static class Block {
+        private final AtomicLong cursor;
+        private final long last;
+
+        private Block(long first, long last) {
+            this.cursor = new AtomicLong(first);
+            this.last = last;
+        }
+    }
+}
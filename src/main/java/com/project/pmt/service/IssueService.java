@@ -1,30 +1,65 @@
 package com.project.pmt.service;
 
 
+import com.project.pmt.dto.projection.BoardPosition;
+import com.project.pmt.dto.projection.IssueActivityCount;
+import com.project.pmt.dto.projection.SprintIssueCount;
+import com.project.pmt.dto.request.BulkUpdateIssuesRequest;
 import com.project.pmt.dto.request.CreateIssueRequest;
+import com.project.pmt.dto.request.MoveIssueRequest;
 import com.project.pmt.dto.request.UpdateIssueRequest;
+import com.project.pmt.dto.response.CursorPageResponse;
 import com.project.pmt.dto.response.IssueResponse;
 import com.project.pmt.dto.response.PageResponse;
 import com.project.pmt.entity.*;
 import com.project.pmt.enums.IssueStatus;
 import com.project.pmt.enums.NotificationType;
 import com.project.pmt.enums.Priority;
+import com.project.pmt.exceptions.BadRequestException;
 import com.project.pmt.exceptions.ResourceNotFoundException;
 import com.project.pmt.mapper.IssueMapper;
+import com.project.pmt.paging.CountQuery;
+import com.project.pmt.paging.CountStrategy;
+import com.project.pmt.paging.PageCounter;
 import com.project.pmt.repository.IssueRepository;
 import com.project.pmt.repository.LabelRepository;
 import com.project.pmt.repository.SprintRepository;
+import com.project.pmt.event.IssueChangedEvent;
+import com.project.pmt.event.IssueTransitionEvent;
+import com.project.pmt.search.EmbeddedIssueSearch;
+import com.project.pmt.search.FullTextQuery;
+import com.project.pmt.search.IssueSearchEngine;
+import com.project.pmt.search.IssueSearchFilter;
+import com.project.pmt.util.CursorPages;
+import com.project.pmt.util.LexoRank;
+import com.project.pmt.util.SeekCursor;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -39,6 +74,25 @@ public class IssueService {
     private final LabelRepository labelRepository;
     private final NotificationService notificationService;
     private final IssueMapper issueMapper;
+    private final IssueKeyAllocator issueKeyAllocator;
+    private final PageCounter pageCounter;
+    private final BoardVersionService boardVersionService;
+    private final BoardRankRebalancer boardRankRebalancer;
+
+    private final ApplicationEventPublisher eventPublisher;
+    private final ObjectProvider<EmbeddedIssueSearch> embeddedIssueSearch;
+
+    @Value("${issue.search.engine:fulltext}")
+    private IssueSearchEngine searchEngine;
+
+    // Same order as the board: rank, then legacy board order, then id
+    private static final Comparator<Issue> BOARD_ORDER = Comparator
+            .comparing(Issue::getBoardRank, Comparator.nullsLast(Comparator.naturalOrder()))
+            .thenComparing(Issue::getBoardOrder, Comparator.nullsLast(Comparator.naturalOrder()))
+            .thenComparing(Issue::getId);
+
+    // Keeps coalesced notification messages within the 500 character column
+    private static final int MAX_KEYS_IN_NOTIFICATION = 10;
 
     @Transactional
     public IssueResponse createIssue(CreateIssueRequest request) {
@@ -48,7 +102,7 @@ public class IssueService {
         User reporter = userService.getCurrentUserEntity();
 
         // Generate issue key
-        String issueKey = generateIssueKey(project);
+        String issueKey = issueKeyAllocator.nextIssueKey(project);
 
         Issue issue = new Issue();
         issue.setProject(project);
@@ -94,11 +148,12 @@ public class IssueService {
             issue.setParentIssue(parentIssue);
         }
 
-        // Set board order
-        Integer maxOrder = issueRepository.findMaxBoardOrder(project.getId(), issue.getStatus());
-        issue.setBoardOrder(maxOrder != null ? maxOrder + 1 : 0);
+        // Place the new issue at the bottom of its board column
+        issue.setBoardRank(rankAtBottom(project.getId(), issue.getStatus()));
 
         issue = issueRepository.save(issue);
+        publishChanged(List.of(issue));
+        publishTransition(issue, null, issue.getStatus());
         log.info("Issue created successfully: {}", issue.getIssueKey());
 
         // Send notification to assignee
@@ -128,35 +183,51 @@ public class IssueService {
     }
 
     public List<IssueResponse> getIssuesByProject(Long projectId) {
-        return issueRepository.findByProjectId(projectId).stream()
-                .map(issueMapper::toResponse)
-                .collect(Collectors.toList());
+        return toResponses(issueRepository.findByProjectId(projectId));
+    }
+
+    public PageResponse<IssueResponse> getIssuesByProjectPaginated(Long projectId, Pageable pageable, CountStrategy count) {
+        Slice<Issue> issueSlice = issueRepository.findByProjectId(projectId, pageable);
+        Page<Issue> issuePage = pageCounter.toPage(issueSlice, pageCounter.strategyFor("issues", count),
+                CountQuery.of("issues:project:" + projectId, () -> issueRepository.countByProjectId(projectId))
+                        .estimatedBy("SELECT 1 FROM issues WHERE project_id = ?", projectId));
+        return issueMapper.toPageResponse(issuePage, toResponses(issuePage.getContent()));
     }
 
-    public PageResponse<IssueResponse> getIssuesByProjectPaginated(Long projectId, Pageable pageable) {
-        Page<Issue> issuePage = issueRepository.findByProjectId(projectId, pageable);
-        return issueMapper.toPageResponse(issuePage);
+    /**
+     * Keyset page of a project's issues, newest first; the total is only counted on request
+     */
+    public CursorPageResponse<IssueResponse> getIssuesByProjectPage(
+            Long projectId, String cursor, int size, boolean includeTotal) {
+        SeekCursor after = SeekCursor.decode(cursor);
+        int pageSize = CursorPages.clampSize(size);
+        Limit limit = Limit.of(pageSize + 1);
+
+        List<Issue> issues = after == null
+                ? issueRepository.findByProjectIdOrderByIdDesc(projectId, limit)
+                : issueRepository.findByProjectIdAndIdLessThanOrderByIdDesc(projectId, after.id(), limit);
+        return CursorPages.of(issues, pageSize, issue -> SeekCursor.ofId(issue.getId()), this::toResponses,
+                includeTotal ? issueRepository.countByProjectId(projectId) : null);
     }
 
     public List<IssueResponse> getIssuesByStatus(Long projectId, IssueStatus status) {
-        return issueRepository.findByProjectIdAndStatus(projectId, status).stream()
-                .map(issueMapper::toResponse)
-                .collect(Collectors.toList());
+        return toResponses(issueRepository.findByProjectIdAndStatus(projectId, status));
     }
 
     public List<IssueResponse> getMyIssues() {
         User currentUser = userService.getCurrentUserEntity();
-        return issueRepository.findByAssigneeId(currentUser.getId()).stream()
-                .map(issueMapper::toResponse)
-                .collect(Collectors.toList());
+        return toResponses(issueRepository.findByAssigneeId(currentUser.getId()));
     }
 
     public List<IssueResponse> getIssuesBySprint(Long sprintId) {
-        return issueRepository.findBySprintId(sprintId).stream()
-                .map(issueMapper::toResponse)
-                .collect(Collectors.toList());
+        return toResponses(issueRepository.findBySprintId(sprintId));
     }
 
+    /**
+     * Issues matching the filters and free text, using the engine set by issue.search.engine.
+     * The sort of the pageable applies only to the LIKE engine and to queries without text: full-text
+     * results are ordered by relevance and embedded results newest first (highest id first).
+     */
     public PageResponse<IssueResponse> searchIssues(
             Long projectId,
             Long assigneeId,
@@ -165,12 +236,113 @@ public class IssueService {
             Priority priority,
             Long sprintId,
             String search,
-            Pageable pageable) {
+            Pageable pageable,
+            CountStrategy count) {
+
+        EmbeddedIssueSearch embeddedSearch = embeddedIssueSearch.getIfAvailable();
+        if (searchEngine == IssueSearchEngine.EMBEDDED && embeddedSearch != null && embeddedSearch.isReady()
+                && search != null && !search.isBlank()) {
+            // Newest first from the in-process index, so the caller's sort is not applied
+            IssueSearchFilter filter = new IssueSearchFilter(projectId, assigneeId, reporterId, status, priority, sprintId);
+            return toResponsePage(embeddedSearch.search(search, filter,
+                    PageRequest.of(pageable.getPageNumber(), pageable.getPageSize())));
+        }
 
-        Page<Issue> issuePage = issueRepository.searchIssues(
-                projectId, assigneeId, reporterId, status, priority, sprintId, search, pageable
-        );
-        return issueMapper.toPageResponse(issuePage);
+        String tsQuery = searchEngine == IssueSearchEngine.FULLTEXT ? FullTextQuery.toPrefixQuery(search) : null;
+        if (tsQuery == null) {
+            Slice<Issue> issueSlice = issueRepository.searchIssues(
+                    projectId, assigneeId, reporterId, status, priority, sprintId, search, pageable
+            );
+            Page<Issue> issuePage = pageCounter.toPage(issueSlice, pageCounter.strategyFor("issue-search", count),
+                    searchCountQuery(projectId, assigneeId, reporterId, status, priority, sprintId, search));
+            return issueMapper.toPageResponse(issuePage, toResponses(issuePage.getContent()));
+        }
+
+        // Full-text results come back in relevance order, so the caller's sort is not applied
+        return toResponsePage(issueRepository.fullTextSearchIssueIds(
+                projectId, assigneeId, reporterId,
+                status != null ? status.name() : null,
+                priority != null ? priority.name() : null,
+                sprintId, tsQuery, search.trim(),
+                PageRequest.of(pageable.getPageNumber(), pageable.getPageSize())
+        ));
+    }
+
+    /**
+     * Let derived read models such as the embedded search index and board change log refresh these issues
+     */
+    private void publishChanged(Collection<Issue> issues) {
+        Map<Long, Set<Long>> issueIdsByProject = new HashMap<>();
+        for (Issue issue : issues) {
+            issueIdsByProject.computeIfAbsent(issue.getProject().getId(), key -> new HashSet<>()).add(issue.getId());
+        }
+        eventPublisher.publishEvent(new IssueChangedEvent(issueIdsByProject));
+    }
+
+    /**
+     * Append a status change to the transition log; written in batches after commit
+     */
+    private void publishTransition(Issue issue, IssueStatus fromStatus, IssueStatus toStatus) {
+        if (fromStatus != toStatus) {
+            publishTransition(issue, fromStatus, toStatus,
+                    userService.findCurrentUserId().orElse(null), LocalDateTime.now());
+        }
+    }
+
+    private void publishTransition(Issue issue, IssueStatus fromStatus, IssueStatus toStatus, Long userId, LocalDateTime at) {
+        if (fromStatus != toStatus) {
+            eventPublisher.publishEvent(new IssueTransitionEvent(
+                    issue.getId(), issue.getProject().getId(), fromStatus, toStatus, at, userId));
+        }
+    }
+
+    /**
+     * Exact, cached and estimated totals for the LIKE search; the estimate mirrors its filters in SQL
+     */
+    private CountQuery searchCountQuery(
+            Long projectId, Long assigneeId, Long reporterId,
+            IssueStatus status, Priority priority, Long sprintId, String search) {
+        StringBuilder sql = new StringBuilder("SELECT 1 FROM issues WHERE true");
+        List<Object> args = new ArrayList<>();
+        appendFilter(sql, args, "project_id", projectId);
+        appendFilter(sql, args, "assignee_id", assigneeId);
+        appendFilter(sql, args, "reporter_id", reporterId);
+        appendFilter(sql, args, "status", status != null ? status.name() : null);
+        appendFilter(sql, args, "priority", priority != null ? priority.name() : null);
+        appendFilter(sql, args, "sprint_id", sprintId);
+        if (search != null) {
+            String pattern = "%" + search.toLowerCase(Locale.ROOT) + "%";
+            sql.append(" AND (lower(title) LIKE ? OR lower(description) LIKE ? OR lower(issue_key) LIKE ?)");
+            args.addAll(List.of(pattern, pattern, pattern));
+        }
+
+        String signature = String.join("|", "issues:search", String.valueOf(projectId), String.valueOf(assigneeId),
+                String.valueOf(reporterId), String.valueOf(status), String.valueOf(priority), String.valueOf(sprintId),
+                search != null ? search.toLowerCase(Locale.ROOT) : "");
+        return CountQuery.of(signature,
+                        () -> issueRepository.countSearchIssues(projectId, assigneeId, reporterId, status, priority, sprintId, search))
+                .estimatedBy(sql.toString(), args.toArray());
+    }
+
+    private static void appendFilter(StringBuilder sql, List<Object> args, String column, Object value) {
+        if (value != null) {
+            sql.append(" AND ").append(column).append(" = ?");
+            args.add(value);
+        }
+    }
+
+    /**
+     * Load a page of issue ids from a search backend, keeping the backend's order
+     */
+    private PageResponse<IssueResponse> toResponsePage(Page<Long> idPage) {
+        Map<Long, Issue> issuesById = issueRepository.findWithDetailsByIdIn(idPage.getContent()).stream()
+                .collect(Collectors.toMap(Issue::getId, Function.identity()));
+        List<Issue> issues = idPage.getContent().stream()
+                .map(issuesById::get)
+                .filter(Objects::nonNull)
+                .toList();
+        Page<Issue> issuePage = new PageImpl<>(issues, idPage.getPageable(), idPage.getTotalElements());
+        return issueMapper.toPageResponse(issuePage, toResponses(issues));
     }
 
     @Transactional
@@ -204,6 +376,11 @@ public class IssueService {
             } else if (request.getStatus() != IssueStatus.DONE && oldStatus == IssueStatus.DONE) {
                 issue.setResolvedAt(null);
             }
+
+            // Move to the bottom of the new column when status changes
+            if (request.getStatus() != oldStatus) {
+                issue.setBoardRank(rankAtBottom(issue.getProject().getId(), request.getStatus()));
+            }
         }
         if (request.getAssigneeId() != null) {
             User assignee = userService.findUserEntityById(request.getAssigneeId());
@@ -239,6 +416,8 @@ public class IssueService {
         }
 
         issue = issueRepository.save(issue);
+        publishChanged(List.of(issue));
+        publishTransition(issue, oldStatus, issue.getStatus());
         log.info("Issue updated successfully: {}", issue.getIssueKey());
 
         // Send notifications
@@ -284,11 +463,14 @@ public class IssueService {
             issue.setResolvedAt(null);
         }
 
-        // Reset board order when status changes
-        Integer maxOrder = issueRepository.findMaxBoardOrder(issue.getProject().getId(), newStatus);
-        issue.setBoardOrder(maxOrder != null ? maxOrder + 1 : 0);
+        // Move to the bottom of the new column when status changes
+        if (newStatus != oldStatus) {
+            issue.setBoardRank(rankAtBottom(issue.getProject().getId(), newStatus));
+        }
 
         issue = issueRepository.save(issue);
+        publishChanged(List.of(issue));
+        publishTransition(issue, oldStatus, newStatus);
         log.info("Issue status updated successfully: {}", issue.getIssueKey());
 
         // Send notification
@@ -323,13 +505,201 @@ public class IssueService {
             } else if (status != IssueStatus.DONE && oldStatus == IssueStatus.DONE) {
                 issue.setResolvedAt(null);
             }
+
+            // Ranks of the old column mean nothing in the new one
+            issue.setBoardRank(rankAtBottom(issue.getProject().getId(), status));
         }
 
         issue.setBoardOrder(newOrder);
         issueRepository.save(issue);
+        publishChanged(List.of(issue));
+        publishTransition(issue, oldStatus, issue.getStatus());
         log.info("Issue board order updated successfully");
     }
 
+    /**
+     * Drag-and-drop move on the board.
+     * The new rank is generated between the two neighbouring cards, so only the moved issue is updated.
+     */
+    @Transactional
+    public IssueResponse moveIssue(Long id, MoveIssueRequest request) {
+        log.info("Moving issue {} -> status: {}, after: {}, before: {}",
+                id, request.getStatus(), request.getPreviousIssueId(), request.getNextIssueId());
+
+        Issue issue = issueRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Issue", "id", id));
+
+        IssueStatus oldStatus = issue.getStatus();
+        IssueStatus status = request.getStatus() != null ? request.getStatus() : oldStatus;
+
+        // Work out the rank before touching the entity, since repairing the column runs bulk updates
+        String rank = rankForMove(issue, status, request.getPreviousIssueId(), request.getNextIssueId());
+
+        // Update status if changed
+        if (!status.equals(oldStatus)) {
+            issue.setStatus(status);
+
+            if (status == IssueStatus.DONE && oldStatus != IssueStatus.DONE) {
+                issue.setResolvedAt(LocalDateTime.now());
+            } else if (status != IssueStatus.DONE && oldStatus == IssueStatus.DONE) {
+                issue.setResolvedAt(null);
+            }
+        }
+        issue.setBoardRank(rank);
+
+        issue = issueRepository.save(issue);
+        publishChanged(List.of(issue));
+        publishTransition(issue, oldStatus, status);
+        log.info("Issue moved successfully: {} -> {}", issue.getIssueKey(), issue.getBoardRank());
+
+        return issueMapper.toResponse(issue);
+    }
+
+    /**
+     * Apply the same change to many issues in one transaction.
+     * Priority, assignee and sprint are written with set-based UPDATE statements; status and
+     * label changes need per-row work and are flushed through JDBC batching. Notifications are
+     * coalesced so each recipient gets one message per change type.
+     *
+     * @return Number of issues updated
+     */
+    @Transactional
+    public int bulkUpdateIssues(BulkUpdateIssuesRequest request) {
+        Set<Long> issueIds = request.getIssueIds();
+        log.info("Bulk updating {} issues", issueIds.size());
+
+        // Snapshot current assignees and statuses for notifications
+        List<Issue> issues = issueRepository.findByIdIn(issueIds);
+        if (issues.size() != issueIds.size()) {
+            Set<Long> foundIds = issues.stream().map(Issue::getId).collect(Collectors.toSet());
+            Long missingId = issueIds.stream().filter(issueId -> !foundIds.contains(issueId)).findFirst().orElse(null);
+            throw new ResourceNotFoundException("Issue", "id", missingId);
+        }
+        Map<Long, Long> oldAssigneeIds = new HashMap<>();
+        Map<Long, IssueStatus> oldStatuses = new HashMap<>();
+        for (Issue issue : issues) {
+            oldAssigneeIds.put(issue.getId(), issue.getAssignee() != null ? issue.getAssignee().getId() : null);
+            oldStatuses.put(issue.getId(), issue.getStatus());
+        }
+
+        // Resolve referenced entities once for the whole batch
+        User assignee = request.getAssigneeId() != null
+                ? userService.findUserEntityById(request.getAssigneeId())
+                : null;
+        Sprint sprint = request.getSprintId() != null
+                ? sprintRepository.findById(request.getSprintId())
+                        .orElseThrow(() -> new ResourceNotFoundException("Sprint", "id", request.getSprintId()))
+                : null;
+        List<Label> labelsToAdd = findLabels(request.getAddLabelIds());
+        Set<Long> labelIdsToRemove = request.getRemoveLabelIds() != null ? request.getRemoveLabelIds() : Set.of();
+
+        // Set-based updates for values that are identical on every issue
+        LocalDateTime now = LocalDateTime.now();
+        if (request.getPriority() != null) {
+            issueRepository.bulkUpdatePriority(issueIds, request.getPriority(), now);
+        }
+        if (assignee != null) {
+            issueRepository.bulkUpdateAssignee(issueIds, assignee, now);
+        }
+        if (sprint != null) {
+            issueRepository.bulkUpdateSprint(issueIds, sprint, now);
+        }
+
+        // Per-row updates, flushed in JDBC batches on commit
+        IssueStatus newStatus = request.getStatus();
+        if (newStatus != null || !labelsToAdd.isEmpty() || !labelIdsToRemove.isEmpty()) {
+            // Reload, since the set-based updates cleared the persistence context, in board order so
+            // issues moved to another column keep their relative order there
+            issues = new ArrayList<>(issueRepository.findWithLabelsByIdIn(issueIds));
+            issues.sort(BOARD_ORDER);
+
+            // Look up the bottom of each target column before touching any entity, locking boards in
+            // project id order so concurrent bulk updates cannot deadlock
+            Map<Long, String> bottomRanks = new HashMap<>();
+            if (newStatus != null) {
+                Set<Long> targetProjectIds = new TreeSet<>();
+                for (Issue issue : issues) {
+                    if (issue.getStatus() != newStatus) {
+                        targetProjectIds.add(issue.getProject().getId());
+                    }
+                }
+                for (Long projectId : targetProjectIds) {
+                    bottomRanks.put(projectId, rankAtBottom(projectId, newStatus));
+                }
+            }
+
+            for (Issue issue : issues) {
+                if (newStatus != null && issue.getStatus() != newStatus) {
+                    IssueStatus oldStatus = issue.getStatus();
+                    issue.setStatus(newStatus);
+
+                    if (newStatus == IssueStatus.DONE && oldStatus != IssueStatus.DONE) {
+                        issue.setResolvedAt(now);
+                    } else if (newStatus != IssueStatus.DONE && oldStatus == IssueStatus.DONE) {
+                        issue.setResolvedAt(null);
+                    }
+
+                    // Append moved issues to the bottom of the new column, keeping their relative order
+                    Long projectId = issue.getProject().getId();
+                    String rank = bottomRanks.get(projectId);
+                    issue.setBoardRank(rank);
+                    bottomRanks.put(projectId, LexoRank.after(rank));
+                }
+                if (!labelsToAdd.isEmpty()) {
+                    issue.getLabels().addAll(labelsToAdd);
+                }
+                if (!labelIdsToRemove.isEmpty()) {
+                    issue.getLabels().removeIf(label -> labelIdsToRemove.contains(label.getId()));
+                }
+            }
+            issueRepository.saveAll(issues);
+        }
+
+        publishChanged(issues);
+        if (newStatus != null) {
+            Long userId = userService.findCurrentUserId().orElse(null);
+            LocalDateTime at = LocalDateTime.now();
+            for (Issue issue : issues) {
+                publishTransition(issue, oldStatuses.get(issue.getId()), newStatus, userId, at);
+            }
+        }
+        log.info("Bulk update completed for {} issues", issues.size());
+
+        // Coalesced notifications
+        if (assignee != null) {
+            List<Issue> assigned = issues.stream()
+                    .filter(issue -> !assignee.getId().equals(oldAssigneeIds.get(issue.getId())))
+                    .collect(Collectors.toList());
+            if (!assigned.isEmpty()) {
+                String message = assigned.size() == 1
+                        ? String.format("You have been assigned to %s: %s", assigned.get(0).getIssueKey(), assigned.get(0).getTitle())
+                        : String.format("You have been assigned to %d issues: %s", assigned.size(), describeIssueKeys(assigned));
+                notifyAbout(assignee, NotificationType.ASSIGNMENT, message, assigned);
+            }
+        }
+
+        if (newStatus != null) {
+            Map<Long, List<Issue>> changedByAssignee = new HashMap<>();
+            Map<Long, User> recipients = new HashMap<>();
+            for (Issue issue : issues) {
+                User recipient = assignee != null ? assignee : issue.getAssignee();
+                if (recipient != null && oldStatuses.get(issue.getId()) != newStatus) {
+                    changedByAssignee.computeIfAbsent(recipient.getId(), key -> new ArrayList<>()).add(issue);
+                    recipients.putIfAbsent(recipient.getId(), recipient);
+                }
+            }
+            changedByAssignee.forEach((recipientId, changed) -> {
+                String message = changed.size() == 1
+                        ? String.format("%s status changed from %s to %s",
+                                changed.get(0).getIssueKey(), oldStatuses.get(changed.get(0).getId()), newStatus)
+                        : String.format("%d issues moved to %s: %s", changed.size(), newStatus, describeIssueKeys(changed));
+                notifyAbout(recipients.get(recipientId), NotificationType.STATUS_CHANGE, message, changed);
+            });
+        }
+
+        return issues.size();
+    }
+
     @Transactional
     public void deleteIssue(Long id) {
         log.info("Deleting issue: {}", id);
@@ -338,6 +708,8 @@ public class IssueService {
                 .orElseThrow(() -> new ResourceNotFoundException("Issue", "id", id));
 
         issueRepository.delete(issue);
+        publishChanged(List.of(issue));
+        publishTransition(issue, issue.getStatus(), null);
         log.info("Issue deleted successfully: {}", id);
     }
 
@@ -353,9 +725,10 @@ public class IssueService {
         User oldAssignee = issue.getAssignee();
         issue.setAssignee(assignee);
         issueRepository.save(issue);
+        publishChanged(List.of(issue));
 
-        // Send notification
-        if (!assignee.equals(oldAssignee)) {
+        // Send notification; users come from UserCache as detached copies, so compare ids
+        if (!Objects.equals(assignee.getId(), oldAssignee != null ? oldAssignee.getId() : null)) {
             notificationService.createNotification(
                     assignee,
                     NotificationType.ASSIGNMENT,
@@ -377,6 +750,7 @@ public class IssueService {
 
         issue.setAssignee(null);
         issueRepository.save(issue);
+        publishChanged(List.of(issue));
         log.info("Issue unassigned successfully");
     }
 
@@ -392,6 +766,7 @@ public class IssueService {
 
         issue.getLabels().add(label);
         issueRepository.save(issue);
+        publishChanged(List.of(issue));
         log.info("Label added to issue successfully");
     }
 
@@ -407,13 +782,135 @@ public class IssueService {
 
         issue.getLabels().remove(label);
         issueRepository.save(issue);
+        publishChanged(List.of(issue));
         log.info("Label removed from issue successfully");
     }
 
-    private String generateIssueKey(Project project) {
-        Integer maxNumber = issueRepository.findMaxIssueNumber(project.getKey());
-        int nextNumber = (maxNumber != null ? maxNumber : 0) + 1;
-        return project.getKey() + "-" + nextNumber;
+    private List<Label> findLabels(Set<Long> labelIds) {
+        if (labelIds == null || labelIds.isEmpty()) {
+            return List.of();
+        }
+        List<Label> labels = labelRepository.findAllById(labelIds);
+        if (labels.size() != labelIds.size()) {
+            Set<Long> foundIds = labels.stream().map(Label::getId).collect(Collectors.toSet());
+            Long missingId = labelIds.stream().filter(labelId -> !foundIds.contains(labelId)).findFirst().orElse(null);
+            throw new ResourceNotFoundException("Label", "id", missingId);
+        }
+        return labels;
+    }
+
+    private void notifyAbout(User recipient, NotificationType type, String message, List<Issue> issues) {
+        Issue single = issues.size() == 1 ? issues.get(0) : null;
+        notificationService.createNotification(
+                recipient,
+                type,
+                message,
+                single != null ? "/issues/" + single.getId() : "/issues",
+                single
+        );
+    }
+
+    private String describeIssueKeys(List<Issue> issues) {
+        int shown = Math.min(issues.size(), MAX_KEYS_IN_NOTIFICATION);
+        String keys = issues.stream()
+                .limit(shown)
+                .map(Issue::getIssueKey)
+                .collect(Collectors.joining(", "));
+        return issues.size() > shown ? keys + " and " + (issues.size() - shown) + " more" : keys;
+    }
+
+    /**
+     * Rank after the last card of a column. Takes the board lock first, so concurrent writers
+     * to the same board see each other's ranks and never append with the same one.
+     */
+    private String rankAtBottom(Long projectId, IssueStatus status) {
+        boardVersionService.lockBoard(projectId);
+        List<String> lastRanks = issueRepository.findLastBoardRanks(projectId, status, PageRequest.of(0, 1));
+        return LexoRank.after(lastRanks.isEmpty() ? null : lastRanks.get(0));
+    }
+
+    /**
+     * Rank between the cards the issue was dropped between, under the board lock.
+     * A column whose neighbours have no rank yet or share one is rebalanced first.
+     */
+    private String rankForMove(Issue issue, IssueStatus status, Long previousIssueId, Long nextIssueId) {
+        Long projectId = issue.getProject().getId();
+        if (previousIssueId == null && nextIssueId == null) {
+            return rankAtBottom(projectId, status);
+        }
+
+        boardVersionService.lockBoard(projectId);
+        BoardPosition previous = neighbourPosition(issue, previousIssueId, status);
+        BoardPosition next = neighbourPosition(issue, nextIssueId, status);
+        if (needsRebalance(previous, next)) {
+            log.info("Rebalancing board column before move: project {} status {}", projectId, status);
+            boardRankRebalancer.rebalanceColumn(projectId, status);
+            previous = neighbourPosition(issue, previousIssueId, status);
+            next = neighbourPosition(issue, nextIssueId, status);
+        }
+
+        try {
+            return LexoRank.between(previous != null ? previous.getBoardRank() : null,
+                    next != null ? next.getBoardRank() : null);
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException("Board has changed, please reload and try again");
+        }
+    }
+
+    private static boolean needsRebalance(BoardPosition previous, BoardPosition next) {
+        if ((previous != null && previous.getBoardRank() == null) || (next != null && next.getBoardRank() == null)) {
+            return true;
+        }
+        return previous != null && next != null && previous.getBoardRank().equals(next.getBoardRank());
+    }
+
+    /**
+     * Position of a neighbouring card, which must sit in the column the issue is dropped into
+     */
+    private BoardPosition neighbourPosition(Issue issue, Long neighbourId, IssueStatus status) {
+        if (neighbourId == null) {
+            return null;
+        }
+        if (neighbourId.equals(issue.getId())) {
+            throw new BadRequestException("An issue cannot be placed next to itself");
+        }
+        BoardPosition position = issueRepository.findBoardPositionById(neighbourId)
+                .orElseThrow(() -> new BadRequestException("Board position of issue " + neighbourId + " is not available, please reload"));
+        if (!position.getProjectId().equals(issue.getProject().getId()) || position.getStatus() != status) {
+            throw new BadRequestException("Issue " + neighbourId + " is not in the " + status + " column, please reload");
+        }
+        return position;
+    }
+
+    /**
+     * Map a list of issues for list views with a constant number of queries.
+     * Users, sprint and parent are already fetch-joined by the repository, labels are
+     * batch-loaded, and comment/attachment/sprint counts come from bulk aggregates.
+     */
+    private List<IssueResponse> toResponses(List<Issue> issues) {
+        if (issues.isEmpty()) {
+            return List.of();
+        }
+
+        Set<Long> issueIds = issues.stream()
+                .map(Issue::getId)
+                .collect(Collectors.toSet());
+        Map<Long, IssueActivityCount> activityCounts = issueRepository.countActivityByIssueIds(issueIds).stream()
+                .collect(Collectors.toMap(IssueActivityCount::getIssueId, Function.identity()));
+
+        Set<Long> sprintIds = issues.stream()
+                .map(Issue::getSprint)
+                .filter(Objects::nonNull)
+                .map(Sprint::getId)
+                .collect(Collectors.toSet());
+        Map<Long, Long> sprintIssueCounts = sprintIds.isEmpty()
+                ? Map.of()
+                : issueRepository.countBySprintIds(sprintIds).stream()
+                        .collect(Collectors.toMap(SprintIssueCount::getSprintId, SprintIssueCount::getIssueCount));
+
+        return issues.stream()
+                .map(issue -> issueMapper.toResponse(issue, activityCounts, sprintIssueCounts))
+                .collect(Collectors.toList());
     }
 
     public Long countIssuesByStatus(Long projectId, IssueStatus status) {
@@ -0,0 +1,262 @@
+package com.project.pmt.service;
+
+import com.project.pmt.enums.IssueStatus;
+import com.project.pmt.event.IssueTransitionEvent;
+import com.project.pmt.util.BatchSplitter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Issue Transition Writer
+ * Buffers status transitions published after commit in a bounded queue and writes them from a
+ * single background thread. Each batch is one transaction that appends the transitions, adds
+ * them to the per-day entered/exited counts and refreshes the cycle times of issues that were
+ * completed or reopened, so flow analytics never have to scan the log. When the queue is full
+ * the publishing thread writes its own transition. Failed batches are retried or split like
+ * notification batches, because a lost transition would skew every later cumulative flow day.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class IssueTransitionWriter {
+
+    private static final String INSERT_TRANSITION_SQL =
+            "INSERT INTO issue_transitions (issue_id, project_id, from_status, to_status, transitioned_at, user_id) " +
+            "VALUES (:issueId, :projectId, :fromStatus, :toStatus, :at, :userId)";
+
+    private static final String UPSERT_DAILY_SQL =
+            "INSERT INTO issue_status_daily (project_id, day, status, entered, exited) " +
+            "VALUES (:projectId, :day, :status, :entered, :exited) " +
+            "ON CONFLICT (project_id, day, status) DO UPDATE SET " +
+            "entered = issue_status_daily.entered + EXCLUDED.entered, " +
+            "exited = issue_status_daily.exited + EXCLUDED.exited";
+
+    private static final String UPSERT_CYCLE_TIME_SQL = """
+            INSERT INTO issue_cycle_times (issue_id, project_id, completed_at, lead_time_hours, cycle_time_hours)
+            SELECT done.issue_id, done.project_id, done.transitioned_at,
+                   EXTRACT(EPOCH FROM done.transitioned_at - created.at) / 3600,
+                   EXTRACT(EPOCH FROM done.transitioned_at - started.at) / 3600
+            FROM (SELECT DISTINCT ON (issue_id) issue_id, project_id, transitioned_at
+                  FROM issue_transitions
+                  WHERE issue_id IN (:issueIds) AND to_status = 'DONE'
+                  ORDER BY issue_id, transitioned_at DESC) done
+            CROSS JOIN LATERAL (SELECT min(transitioned_at) AS at FROM issue_transitions
+                                WHERE issue_id = done.issue_id) created
+            CROSS JOIN LATERAL (SELECT min(transitioned_at) AS at FROM issue_transitions
+                                WHERE issue_id = done.issue_id AND to_status = 'IN_PROGRESS') started
+            ON CONFLICT (issue_id) DO UPDATE SET
+                completed_at = EXCLUDED.completed_at,
+                lead_time_hours = EXCLUDED.lead_time_hours,
+                cycle_time_hours = EXCLUDED.cycle_time_hours
+            """;
+
+    private static final String DELETE_CYCLE_TIME_SQL = "DELETE FROM issue_cycle_times WHERE issue_id IN (:issueIds)";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final PlatformTransactionManager transactionManager;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${issue.transitions.queue.capacity:10000}")
+    private int queueCapacity;
+
+    @Value("${issue.transitions.batch.size:500}")
+    private int batchSize;
+
+    @Value("${issue.transitions.batch.flush-interval-ms:200}")
+    private long flushIntervalMs;
+
+    @Value("${issue.transitions.queue.offer-timeout-ms:50}")
+    private long offerTimeoutMs;
+
+    @Value("${issue.transitions.batch.max-attempts:5}")
+    private int maxAttempts;
+
+    @Value("${issue.transitions.batch.retry-backoff-ms:500}")
+    private long retryBackoffMs;
+
+    private BlockingQueue<IssueTransitionEvent> queue;
+    private TransactionTemplate transactionTemplate;
+    private BatchSplitter batchSplitter;
+    private Thread writerThread;
+    private volatile boolean running;
+
+    private Counter callerRunsCounter;
+    private Counter failedCounter;
+    private DistributionSummary batchSizeSummary;
+    private Timer flushTimer;
+
+    @PostConstruct
+    void start() {
+        queue = new ArrayBlockingQueue<>(queueCapacity);
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        batchSplitter = new BatchSplitter(maxAttempts, Duration.ofMillis(retryBackoffMs));
+
+        Gauge.builder("pmt.issue.transitions.queue.size", queue, BlockingQueue::size)
+                .description("Issue transitions waiting to be written")
+                .register(meterRegistry);
+        callerRunsCounter = Counter.builder("pmt.issue.transitions.caller.runs")
+                .description("Issue transitions written on the publishing thread because the queue was full")
+                .register(meterRegistry);
+        failedCounter = Counter.builder("pmt.issue.transitions.failed")
+                .description("Issue transitions dropped because they could not be written")
+                .register(meterRegistry);
+        batchSizeSummary = DistributionSummary.builder("pmt.issue.transitions.batch.size")
+                .description("Issue transitions written per batch")
+                .register(meterRegistry);
+        flushTimer = Timer.builder("pmt.issue.transitions.flush")
+                .description("Time to write one issue transition batch")
+                .register(meterRegistry);
+
+        running = true;
+        writerThread = new Thread(this::runWriter, "issue-transition-writer");
+        writerThread.setDaemon(true);
+        writerThread.start();
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        running = false;
+        writerThread.interrupt();
+        writerThread.join(TimeUnit.SECONDS.toMillis(10));
+
+        // Write whatever is still buffered before shutting down
+        List<IssueTransitionEvent> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        for (int from = 0; from < remaining.size(); from += batchSize) {
+            write(remaining.subList(from, Math.min(from + batchSize, remaining.size())));
+        }
+    }
+
+    /**
+     * Runs after the publishing transaction commits, so rolled back status changes are never logged
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTransition(IssueTransitionEvent event) throws InterruptedException {
+        if (queue.offer(event, offerTimeoutMs, TimeUnit.MILLISECONDS)) {
+            return;
+        }
+        log.warn("Issue transition queue full, writing transition of issue {} inline", event.issueId());
+        callerRunsCounter.increment();
+        write(List.of(event));
+    }
+
+    private void runWriter() {
+        List<IssueTransitionEvent> batch = new ArrayList<>(batchSize);
+        while (running) {
+            try {
+                IssueTransitionEvent first = queue.poll(flushIntervalMs, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                write(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    /**
+     * Write the batch; every attempt is its own transaction, so a part that fails leaves neither log
+     * rows nor aggregate increments behind and only transitions that fail on their own are dropped
+     */
+    void write(List<IssueTransitionEvent> batch) {
+        batchSplitter.write(batch, this::writeInTransaction, (event, e) -> {
+            failedCounter.increment();
+            log.error("Dropped transition of issue {} from {} to {}", event.issueId(), event.fromStatus(), event.toStatus(), e);
+        });
+    }
+
+    private void writeInTransaction(List<IssueTransitionEvent> batch) {
+        flushTimer.record(() -> transactionTemplate.executeWithoutResult(txStatus -> writeBatch(batch)));
+        batchSizeSummary.record(batch.size());
+        log.debug("Wrote {} issue transitions", batch.size());
+    }
+
+    private void writeBatch(List<IssueTransitionEvent> batch) {
+        SqlParameterSource[] transitions = new SqlParameterSource[batch.size()];
+        Map<DailyKey, int[]> daily = new LinkedHashMap<>();
+        Set<Long> completed = new HashSet<>();
+        Set<Long> reopened = new HashSet<>();
+
+        for (int i = 0; i < batch.size(); i++) {
+            IssueTransitionEvent event = batch.get(i);
+            transitions[i] = new MapSqlParameterSource()
+                    .addValue("issueId", event.issueId())
+                    .addValue("projectId", event.projectId())
+                    .addValue("fromStatus", event.fromStatus() != null ? event.fromStatus().name() : null)
+                    .addValue("toStatus", event.toStatus() != null ? event.toStatus().name() : null)
+                    .addValue("at", event.at())
+                    .addValue("userId", event.userId());
+
+            LocalDate day = event.at().toLocalDate();
+            if (event.fromStatus() != null) {
+                daily.computeIfAbsent(new DailyKey(event.projectId(), day, event.fromStatus()), key -> new int[2])[1]++;
+            }
+            if (event.toStatus() != null) {
+                daily.computeIfAbsent(new DailyKey(event.projectId(), day, event.toStatus()), key -> new int[2])[0]++;
+            }
+
+            // The last transition of an issue in the batch decides whether it counts as completed
+            if (event.toStatus() == IssueStatus.DONE) {
+                completed.add(event.issueId());
+                reopened.remove(event.issueId());
+            } else if (event.fromStatus() == IssueStatus.DONE || event.toStatus() == null) {
+                reopened.add(event.issueId());
+                completed.remove(event.issueId());
+            }
+        }
+
+        jdbcTemplate.batchUpdate(INSERT_TRANSITION_SQL, transitions);
+
+        List<SqlParameterSource> dailyRows = new ArrayList<>(daily.size());
+        daily.forEach((key, counts) -> dailyRows.add(new MapSqlParameterSource()
+                .addValue("projectId", key.projectId())
+                .addValue("day", key.day())
+                .addValue("status", key.status().name())
+                .addValue("entered", counts[0])
+                .addValue("exited", counts[1])));
+        jdbcTemplate.batchUpdate(UPSERT_DAILY_SQL, dailyRows.toArray(SqlParameterSource[]::new));
+
+        if (!completed.isEmpty()) {
+            jdbcTemplate.update(UPSERT_CYCLE_TIME_SQL, new MapSqlParameterSource("issueIds", completed));
+        }
+        if (!reopened.isEmpty()) {
+            jdbcTemplate.update(DELETE_CYCLE_TIME_SQL, new MapSqlParameterSource("issueIds", reopened));
+        }
+    }
+
+    private record DailyKey(Long projectId, LocalDate day, IssueStatus status) {
+    }
+}
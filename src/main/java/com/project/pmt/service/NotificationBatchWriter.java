@@ -0,0 +1,232 @@
+package com.project.pmt.service;
+
+import com.project.pmt.cache.UnreadCountStore;
+import com.project.pmt.dto.response.NotificationResponse;
+import com.project.pmt.event.NotificationEvent;
+import com.project.pmt.util.BatchSplitter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Notification Batch Writer
+ * Buffers notification events published after commit in a bounded queue and writes them
+ * with multi-row INSERT statements from a single background thread. When the queue is full
+ * the publishing thread waits briefly and then writes its own notification, so bursts slow
+ * producers down instead of losing notifications. A failed INSERT is retried when the database
+ * was unavailable and split otherwise, so only rows that fail on their own are dropped.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class NotificationBatchWriter {
+
+    private static final String INSERT_PREFIX =
+            "INSERT INTO notifications (user_id, type, message, link, read, issue_id, created_at, updated_at) VALUES ";
+    private static final String ROW_PLACEHOLDERS = "(?, ?, ?, ?, false, ?, ?, ?)";
+    private static final String RETURNING_ID = " RETURNING id";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final MeterRegistry meterRegistry;
+    private final UnreadCountStore unreadCountStore;
+    private final NotificationStreamService notificationStreamService;
+
+    @Value("${notification.queue.capacity:10000}")
+    private int queueCapacity;
+
+    @Value("${notification.batch.size:200}")
+    private int batchSize;
+
+    @Value("${notification.batch.flush-interval-ms:200}")
+    private long flushIntervalMs;
+
+    @Value("${notification.queue.offer-timeout-ms:50}")
+    private long offerTimeoutMs;
+
+    @Value("${notification.batch.max-attempts:5}")
+    private int maxAttempts;
+
+    @Value("${notification.batch.retry-backoff-ms:500}")
+    private long retryBackoffMs;
+
+    private BlockingQueue<NotificationEvent> queue;
+    private BatchSplitter batchSplitter;
+    private Thread writerThread;
+    private volatile boolean running;
+
+    private Counter enqueuedCounter;
+    private Counter callerRunsCounter;
+    private Counter failedCounter;
+    private DistributionSummary batchSizeSummary;
+    private Timer flushTimer;
+
+    @PostConstruct
+    void start() {
+        queue = new ArrayBlockingQueue<>(queueCapacity);
+        batchSplitter = new BatchSplitter(maxAttempts, Duration.ofMillis(retryBackoffMs));
+
+        Gauge.builder("pmt.notifications.queue.size", queue, BlockingQueue::size)
+                .description("Notifications waiting to be written")
+                .register(meterRegistry);
+        Gauge.builder("pmt.notifications.queue.remaining", queue, BlockingQueue::remainingCapacity)
+                .description("Free slots in the notification queue")
+                .register(meterRegistry);
+        enqueuedCounter = Counter.builder("pmt.notifications.enqueued")
+                .description("Notifications accepted by the queue")
+                .register(meterRegistry);
+        callerRunsCounter = Counter.builder("pmt.notifications.caller.runs")
+                .description("Notifications written on the publishing thread because the queue was full")
+                .register(meterRegistry);
+        failedCounter = Counter.builder("pmt.notifications.failed")
+                .description("Notifications dropped because they could not be written")
+                .register(meterRegistry);
+        batchSizeSummary = DistributionSummary.builder("pmt.notifications.batch.size")
+                .description("Notifications written per INSERT")
+                .register(meterRegistry);
+        flushTimer = Timer.builder("pmt.notifications.flush")
+                .description("Time to write one notification batch")
+                .register(meterRegistry);
+
+        running = true;
+        writerThread = new Thread(this::runWriter, "notification-writer");
+        writerThread.setDaemon(true);
+        writerThread.start();
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        running = false;
+        writerThread.interrupt();
+        writerThread.join(TimeUnit.SECONDS.toMillis(10));
+
+        // Write whatever is still buffered before shutting down
+        List<NotificationEvent> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        for (int from = 0; from < remaining.size(); from += batchSize) {
+            write(remaining.subList(from, Math.min(from + batchSize, remaining.size())));
+        }
+    }
+
+    /**
+     * Runs after the publishing transaction commits, so notifications are never written for rolled back changes
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onNotification(NotificationEvent event) throws InterruptedException {
+        if (queue.offer(event, offerTimeoutMs, TimeUnit.MILLISECONDS)) {
+            enqueuedCounter.increment();
+            return;
+        }
+        log.warn("Notification queue full, writing notification for user {} inline", event.userId());
+        callerRunsCounter.increment();
+        write(List.of(event));
+    }
+
+    private void runWriter() {
+        List<NotificationEvent> batch = new ArrayList<>(batchSize);
+        while (running) {
+            try {
+                NotificationEvent first = queue.poll(flushIntervalMs, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                write(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    /**
+     * Write the batch; a row that fails on its own (for example because its issue was deleted) is
+     * dropped without losing the rest of the batch
+     */
+    void write(List<NotificationEvent> batch) {
+        batchSplitter.write(batch, this::insert, (event, e) -> {
+            failedCounter.increment();
+            log.error("Dropped notification for user {} ({})", event.userId(), event.type(), e);
+        });
+    }
+
+    private void insert(List<NotificationEvent> batch) {
+        StringBuilder sql = new StringBuilder(INSERT_PREFIX);
+        List<Object> args = new ArrayList<>(batch.size() * 7);
+        for (int i = 0; i < batch.size(); i++) {
+            NotificationEvent event = batch.get(i);
+            if (i > 0) {
+                sql.append(", ");
+            }
+            sql.append(ROW_PLACEHOLDERS);
+            args.add(event.userId());
+            args.add(event.type().name());
+            args.add(event.message());
+            args.add(event.link());
+            args.add(event.issueId());
+            args.add(event.createdAt());
+            args.add(event.createdAt());
+        }
+        sql.append(RETURNING_ID);
+
+        List<Long> ids = flushTimer.record(() -> jdbcTemplate.queryForList(sql.toString(), Long.class, args.toArray()));
+        batchSizeSummary.record(batch.size());
+        log.debug("Wrote {} notifications", batch.size());
+
+        // The rows are stored now; a failure past this point must not make the splitter write them again
+        try {
+            afterWrite(batch, ids);
+        } catch (RuntimeException e) {
+            log.warn("Failed to update unread counters or streams for {} notifications", batch.size(), e);
+        }
+    }
+
+    private void afterWrite(List<NotificationEvent> batch, List<Long> ids) {
+        // Keep cached unread counters in step with the rows just written
+        batch.stream()
+                .collect(Collectors.groupingBy(NotificationEvent::userId, Collectors.counting()))
+                .forEach(unreadCountStore::increment);
+
+        // RETURNING yields ids in VALUES order, so they line up with the batch
+        Map<Long, List<NotificationResponse>> stored = new HashMap<>();
+        for (int i = 0; i < batch.size(); i++) {
+            NotificationEvent event = batch.get(i);
+            stored.computeIfAbsent(event.userId(), id -> new ArrayList<>()).add(toResponse(ids.get(i), event));
+        }
+        stored.forEach(notificationStreamService::publish);
+    }
+
+    private NotificationResponse toResponse(Long id, NotificationEvent event) {
+        return NotificationResponse.builder()
+                .id(id)
+                .type(event.type())
+                .message(event.message())
+                .link(event.link())
+                .read(false)
+                .issueId(event.issueId())
+                .createdAt(event.createdAt())
+                .build();
+    }
+}
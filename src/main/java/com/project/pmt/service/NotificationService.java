@@ -1,17 +1,27 @@
 package com.project.pmt.service;
 
+import com.project.pmt.cache.UnreadCountStore;
+import com.project.pmt.dto.response.CursorPageResponse;
 import com.project.pmt.dto.response.NotificationResponse;
 import com.project.pmt.entity.Issue;
 import com.project.pmt.entity.Notification;
 import com.project.pmt.entity.User;
 import com.project.pmt.enums.NotificationType;
+import com.project.pmt.event.NotificationEvent;
+import com.project.pmt.exceptions.BadRequestException;
 import com.project.pmt.exceptions.ResourceNotFoundException;
 import com.project.pmt.mapper.NotificationMapper;
 import com.project.pmt.repository.NotificationRepository;
+import com.project.pmt.util.AfterCommit;
+import com.project.pmt.util.CursorPages;
+import com.project.pmt.util.SeekCursor;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -25,29 +35,40 @@ public class NotificationService {
     private final NotificationRepository notificationRepository;
     private final UserService userService;
     private final NotificationMapper notificationMapper;
-
-    @Transactional
-    public NotificationResponse createNotification(
+    private final ApplicationEventPublisher eventPublisher;
+    private final UnreadCountStore unreadCountStore;
+    private final NotificationStreamService notificationStreamService;
+
+    /**
+     * Queue a notification for a user.
+     * The notification is stored asynchronously in batches once the caller's transaction commits,
+     * so it does not add an INSERT to the request that triggered it.
+     */
+    public void createNotification(
             User user,
             NotificationType type,
             String message,
             String link,
             Issue issue) {
 
-        log.info("Creating notification for user: {}", user.getId());
+        log.debug("Queueing notification for user: {}", user.getId());
 
-        Notification notification = new Notification();
-        notification.setUser(user);
-        notification.setType(type);
-        notification.setMessage(message);
-        notification.setLink(link);
-        notification.setIssue(issue);
-        notification.setRead(false);
-
-        notification = notificationRepository.save(notification);
-        log.info("Notification created successfully: {}", notification.getId());
+        eventPublisher.publishEvent(new NotificationEvent(
+                user.getId(),
+                type,
+                message,
+                link,
+                issue != null ? issue.getId() : null,
+                LocalDateTime.now()
+        ));
+    }
 
-        return notificationMapper.toResponse(notification);
+    /**
+     * Open a live notification stream for the current user, resuming after lastEventId when given
+     */
+    public SseEmitter streamNotifications(Long lastEventId) {
+        User currentUser = userService.getCurrentUserEntity();
+        return notificationStreamService.subscribe(currentUser.getId(), lastEventId);
     }
 
     public List<NotificationResponse> getMyNotifications() {
@@ -57,6 +78,27 @@ public class NotificationService {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Keyset page of the current user's notifications, newest first; the total is only counted on request
+     */
+    public CursorPageResponse<NotificationResponse> getMyNotificationsPage(String cursor, int size, boolean includeTotal) {
+        User currentUser = userService.getCurrentUserEntity();
+        SeekCursor after = SeekCursor.decode(cursor);
+        if (after != null && after.sortKey() == null) {
+            throw new BadRequestException("Invalid page cursor");
+        }
+        int pageSize = CursorPages.clampSize(size);
+        Limit limit = Limit.of(pageSize + 1);
+
+        List<Notification> notifications = after == null
+                ? notificationRepository.findByUserIdOrderByCreatedAtDescIdDesc(currentUser.getId(), limit)
+                : notificationRepository.findByUserIdBefore(currentUser.getId(), after.sortKey(), after.id(), limit);
+        return CursorPages.of(notifications, pageSize,
+                notification -> new SeekCursor(notification.getCreatedAt(), notification.getId()),
+                page -> page.stream().map(notificationMapper::toResponse).collect(Collectors.toList()),
+                includeTotal ? notificationRepository.countByUserId(currentUser.getId()) : null);
+    }
+
     public List<NotificationResponse> getUnreadNotifications() {
         User currentUser = userService.getCurrentUserEntity();
         return notificationRepository.findByUserIdAndReadFalse(currentUser.getId()).stream()
@@ -64,9 +106,22 @@ public class NotificationService {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Unread count served from the counter cache; rebuilt from the database on a miss.
+     * A rebuild never overwrites a counter cached meanwhile.
+     */
     public Long getUnreadCount() {
         User currentUser = userService.getCurrentUserEntity();
-        return notificationRepository.countByUserIdAndReadFalse(currentUser.getId());
+        Long cached = unreadCountStore.get(currentUser.getId());
+        if (cached != null) {
+            return cached;
+        }
+
+        // Read before counting: changes that land while the query runs move it and keep the result out of the cache
+        long generation = unreadCountStore.generation(currentUser.getId());
+        Long count = notificationRepository.countByUserIdAndReadFalse(currentUser.getId());
+        unreadCountStore.putIfUnchanged(currentUser.getId(), count, generation);
+        return count;
     }
 
     @Transactional
@@ -81,10 +136,13 @@ public class NotificationService {
             throw new ResourceNotFoundException("Notification", "id", id);
         }
 
-        notification.setRead(true);
-        notification.setReadAt(LocalDateTime.now());
-
-        notification = notificationRepository.save(notification);
+        // Only the request whose update flips the row moves the counter, however many race on it
+        LocalDateTime readAt = LocalDateTime.now();
+        if (notificationRepository.markAsReadIfUnread(id, readAt) > 0) {
+            notification.setRead(true);
+            notification.setReadAt(readAt);
+            AfterCommit.run(() -> unreadCountStore.increment(currentUser.getId(), -1));
+        }
         log.info("Notification marked as read: {}", notification.getId());
 
         return notificationMapper.toResponse(notification);
@@ -96,6 +154,8 @@ public class NotificationService {
 
         User currentUser = userService.getCurrentUserEntity();
         notificationRepository.markAllAsReadForUser(currentUser.getId());
+        // Evict rather than store 0: notifications created after the update would otherwise be lost
+        AfterCommit.run(() -> unreadCountStore.evict(currentUser.getId()));
         log.info("All notifications marked as read");
     }
 
@@ -111,7 +171,11 @@ public class NotificationService {
             throw new ResourceNotFoundException("Notification", "id", id);
         }
 
-        notificationRepository.delete(notification);
+        // Decide from the row as deleted, not as loaded, so a concurrent markAsRead cannot be counted twice
+        Boolean wasRead = notificationRepository.deleteReturningRead(id);
+        if (Boolean.FALSE.equals(wasRead)) {
+            AfterCommit.run(() -> unreadCountStore.increment(currentUser.getId(), -1));
+        }
         log.info("Notification deleted successfully: {}", id);
     }
 
@@ -121,6 +185,7 @@ public class NotificationService {
 
         User currentUser = userService.getCurrentUserEntity();
         notificationRepository.deleteAllByUserId(currentUser.getId());
+        AfterCommit.run(() -> unreadCountStore.evict(currentUser.getId()));
         log.info("All notifications deleted");
     }
 }
\ No newline at end of file
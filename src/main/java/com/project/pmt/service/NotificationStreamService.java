@@ -0,0 +1,207 @@
+package com.project.pmt.service;
+
+import com.project.pmt.dto.response.NotificationResponse;
+import com.project.pmt.mapper.NotificationMapper;
+import com.project.pmt.repository.NotificationRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Notification Stream Service
+ * Keeps the open Server-Sent Events connections of each user and pushes notifications to them
+ * as soon as they are stored. Sends run on virtual threads so a slow client never holds up the
+ * notification writer. Reconnecting clients pass the last id they received and get the
+ * notifications they missed replayed from the database before live events resume.
+ *
+ * Connections are tracked per application instance; a notification is pushed by the instance
+ * that stored it.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class NotificationStreamService {
+
+    private static final String EVENT_NAME = "notification";
+
+    private final NotificationRepository notificationRepository;
+    private final NotificationMapper notificationMapper;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${notification.stream.timeout-ms:1800000}")
+    private long timeoutMs;
+
+    @Value("${notification.stream.reconnect-ms:3000}")
+    private long reconnectMs;
+
+    @Value("${notification.stream.replay-limit:100}")
+    private int replayLimit;
+
+    private final Map<Long, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+    private final ExecutorService dispatcher = Executors.newVirtualThreadPerTaskExecutor();
+
+    @PostConstruct
+    void registerMetrics() {
+        Gauge.builder("pmt.notifications.stream.subscribers", subscribers,
+                        map -> map.values().stream().mapToInt(Set::size).sum())
+                .description("Open notification event streams")
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        subscribers.values().forEach(set -> set.forEach(subscriber -> subscriber.emitter.complete()));
+        subscribers.clear();
+        dispatcher.shutdown();
+    }
+
+    /**
+     * Open a stream for a user, replaying notifications newer than lastEventId when given
+     */
+    public SseEmitter subscribe(Long userId, Long lastEventId) {
+        SseEmitter emitter = new SseEmitter(timeoutMs);
+        Subscriber subscriber = new Subscriber(userId, emitter);
+
+        emitter.onCompletion(() -> unsubscribe(subscriber));
+        emitter.onTimeout(() -> unsubscribe(subscriber));
+        emitter.onError(e -> unsubscribe(subscriber));
+
+        // Register before replaying so nothing stored in between is missed;
+        // live events already covered by the replay are skipped by the subscriber
+        subscribers.compute(userId, (id, set) -> {
+            Set<Subscriber> result = set != null ? set : ConcurrentHashMap.newKeySet();
+            result.add(subscriber);
+            return result;
+        });
+        log.debug("Notification stream opened for user {}", userId);
+
+        subscriber.open(lastEventId);
+        return emitter;
+    }
+
+    /**
+     * Push stored notifications to every open stream of the user
+     */
+    public void publish(Long userId, List<NotificationResponse> notifications) {
+        Set<Subscriber> userSubscribers = subscribers.get(userId);
+        if (userSubscribers == null || notifications.isEmpty()) {
+            return;
+        }
+        for (Subscriber subscriber : userSubscribers) {
+            dispatcher.execute(() -> subscriber.sendAll(notifications));
+        }
+    }
+
+    /**
+     * Comment lines keep idle connections from being closed by proxies and reveal dead clients
+     */
+    @Scheduled(fixedDelayString = "${notification.stream.heartbeat-interval-ms:15000}")
+    public void sendHeartbeats() {
+        subscribers.values().forEach(set -> set.forEach(subscriber ->
+                dispatcher.execute(subscriber::heartbeat)));
+    }
+
+    private void unsubscribe(Subscriber subscriber) {
+        subscribers.computeIfPresent(subscriber.userId, (id, set) -> {
+            set.remove(subscriber);
+            return set.isEmpty() ? null : set;
+        });
+        log.debug("Notification stream closed for user {}", subscriber.userId);
+    }
+
+    /**
+     * One open connection. Sends are serialised because SseEmitter is not safe for concurrent writes.
+     */
+    private final class Subscriber {
+
+        private final Long userId;
+        private final SseEmitter emitter;
+        private final ReentrantLock lock = new ReentrantLock();
+        private long replayedUpTo;
+
+        private Subscriber(Long userId, SseEmitter emitter) {
+            this.userId = userId;
+            this.emitter = emitter;
+        }
+
+        void open(Long lastEventId) {
+            lock.lock();
+            try {
+                emitter.send(SseEmitter.event().reconnectTime(reconnectMs).comment("connected"));
+                if (lastEventId == null) {
+                    return;
+                }
+
+                List<NotificationResponse> missed = notificationRepository
+                        .findByUserIdAndIdGreaterThanOrderByIdAsc(userId, lastEventId, PageRequest.of(0, replayLimit))
+                        .stream()
+                        .map(notificationMapper::toResponse)
+                        .toList();
+                for (NotificationResponse notification : missed) {
+                    send(notification);
+                    replayedUpTo = notification.getId();
+                }
+            } catch (IOException | IllegalStateException e) {
+                fail(e);
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        void sendAll(List<NotificationResponse> notifications) {
+            lock.lock();
+            try {
+                for (NotificationResponse notification : notifications) {
+                    if (notification.getId() > replayedUpTo) {
+                        send(notification);
+                    }
+                }
+            } catch (IOException | IllegalStateException e) {
+                fail(e);
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        void heartbeat() {
+            lock.lock();
+            try {
+                emitter.send(SseEmitter.event().comment("heartbeat"));
+            } catch (IOException | IllegalStateException e) {
+                fail(e);
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void send(NotificationResponse notification) throws IOException {
+            emitter.send(SseEmitter.event()
+                    .id(String.valueOf(notification.getId()))
+                    .name(EVENT_NAME)
+                    .data(notification));
+        }
+
+        private void fail(Exception e) {
+            log.debug("Dropping notification stream for user {}: {}", userId, e.getMessage());
+            unsubscribe(this);
+            emitter.completeWithError(e);
+        }
+    }
+}
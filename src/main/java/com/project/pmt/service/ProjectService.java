@@ -5,21 +5,32 @@ import com.project.pmt.dto.request.UpdateProjectRequest;
 import com.project.pmt.dto.response.PageResponse;
 import com.project.pmt.dto.response.ProjectResponse;
 import com.project.pmt.entity.Project;
+import com.project.pmt.entity.ProjectStats;
 import com.project.pmt.entity.User;
+import com.project.pmt.event.ProjectChangedEvent;
 import com.project.pmt.exceptions.BadRequestException;
 import com.project.pmt.exceptions.DuplicateResourceException;
 import com.project.pmt.exceptions.ResourceNotFoundException;
 import com.project.pmt.mapper.ProjectMapper;
+import com.project.pmt.paging.CountQuery;
+import com.project.pmt.paging.CountStrategy;
+import com.project.pmt.paging.PageCounter;
 import com.project.pmt.repository.ProjectRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -31,6 +42,9 @@ public class ProjectService {
     private final ProjectRepository projectRepository;
     private final UserService userService;
     private final ProjectMapper projectMapper;
+    private final PageCounter pageCounter;
+    private final ProjectStatsService projectStatsService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public ProjectResponse createProject(CreateProjectRequest request) {
@@ -52,63 +66,61 @@ public class ProjectService {
 
         // Set lead
         if (request.getLeadId() != null) {
-            User lead = userService.findUserEntityById(request.getLeadId());
-            project.setLead(lead);
+            project.setLead(userService.getUserReference(request.getLeadId()));
         } else {
-            project.setLead(currentUser);
+            project.setLead(userService.getUserReference(currentUser.getId()));
         }
 
-        // Add members
-        Set<User> members = new HashSet<>();
-        if (request.getMemberIds() != null && !request.getMemberIds().isEmpty()) {
-            for (Long memberId : request.getMemberIds()) {
-                User member = userService.findUserEntityById(memberId);
-                members.add(member);
-            }
-        }
-        // Always add the lead as a member
-        members.add(project.getLead());
-        project.setMembers(members);
+        // Add members, always including the lead
+        project.setMembers(membersOf(request.getMemberIds(), project.getLead()));
 
         project = projectRepository.save(project);
+        eventPublisher.publishEvent(new ProjectChangedEvent(project.getId()));
         log.info("Project created successfully: {}", project.getId());
 
-        return projectMapper.toResponse(project);
+        return toResponse(project);
     }
 
     public ProjectResponse getProjectById(Long id) {
         Project project = projectRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Project", "id", id));
-        return projectMapper.toResponse(project);
+        return toResponse(project);
     }
 
     public ProjectResponse getProjectByKey(String key) {
         Project project = projectRepository.findByKey(key.toUpperCase())
                 .orElseThrow(() -> new ResourceNotFoundException("Project", "key", key));
-        return projectMapper.toResponse(project);
+        return toResponse(project);
     }
 
     public List<ProjectResponse> getAllProjects() {
-        return projectRepository.findByArchivedFalse().stream()
-                .map(projectMapper::toResponse)
-                .collect(Collectors.toList());
+        return toSummaryResponses(projectRepository.findByArchivedFalse());
     }
 
-    public PageResponse<ProjectResponse> getAllProjectsPaginated(Pageable pageable) {
-        Page<Project> projectPage = projectRepository.findActiveProjects(pageable);
-        return projectMapper.toPageResponse(projectPage);
+    public PageResponse<ProjectResponse> getAllProjectsPaginated(Pageable pageable, CountStrategy count) {
+        Slice<Project> projectSlice = projectRepository.findActiveProjects(pageable);
+        Page<Project> projectPage = pageCounter.toPage(projectSlice, pageCounter.strategyFor("projects", count),
+                CountQuery.of("projects:active", projectRepository::countByArchivedFalse)
+                        .estimatedBy("SELECT 1 FROM projects WHERE archived = false"));
+        return projectMapper.toPageResponse(projectPage, projectStatsService.findByProjectIds(
+                projectPage.getContent().stream().map(Project::getId).toList()));
     }
 
     public List<ProjectResponse> getMyProjects() {
         User currentUser = userService.getCurrentUserEntity();
-        return projectRepository.findProjectsByMemberId(currentUser.getId()).stream()
-                .map(projectMapper::toResponse)
-                .collect(Collectors.toList());
+        return toSummaryResponses(projectRepository.findProjectsByMemberId(currentUser.getId()));
     }
 
-    public PageResponse<ProjectResponse> searchProjects(String search, Pageable pageable) {
-        Page<Project> projectPage = projectRepository.searchProjects(search, pageable);
-        return projectMapper.toPageResponse(projectPage);
+    public PageResponse<ProjectResponse> searchProjects(String search, Pageable pageable, CountStrategy count) {
+        Slice<Project> projectSlice = projectRepository.searchProjects(search, pageable);
+        String pattern = "%" + search.toLowerCase(Locale.ROOT) + "%";
+        Page<Project> projectPage = pageCounter.toPage(projectSlice, pageCounter.strategyFor("project-search", count),
+                CountQuery.of("projects:search:" + search.toLowerCase(Locale.ROOT), () -> projectRepository.countSearchProjects(search))
+                        .estimatedBy("SELECT 1 FROM projects WHERE archived = false AND " +
+                                "(lower(name) LIKE ? OR lower(key) LIKE ? OR lower(description) LIKE ?)",
+                                pattern, pattern, pattern));
+        return projectMapper.toPageResponse(projectPage, projectStatsService.findByProjectIds(
+                projectPage.getContent().stream().map(Project::getId).toList()));
     }
 
     @Transactional
@@ -131,26 +143,19 @@ public class ProjectService {
             project.setArchived(request.getArchived());
         }
         if (request.getLeadId() != null) {
-            User lead = userService.findUserEntityById(request.getLeadId());
-            project.setLead(lead);
+            project.setLead(userService.getUserReference(request.getLeadId()));
         }
 
-        // Update members
+        // Update members, always including the lead
         if (request.getMemberIds() != null) {
-            Set<User> members = new HashSet<>();
-            for (Long memberId : request.getMemberIds()) {
-                User member = userService.findUserEntityById(memberId);
-                members.add(member);
-            }
-            // Always include the lead
-            members.add(project.getLead());
-            project.setMembers(members);
+            project.setMembers(membersOf(request.getMemberIds(), project.getLead()));
         }
 
         project = projectRepository.save(project);
+        eventPublisher.publishEvent(new ProjectChangedEvent(project.getId()));
         log.info("Project updated successfully: {}", project.getId());
 
-        return projectMapper.toResponse(project);
+        return toResponse(project);
     }
 
     @Transactional
@@ -160,17 +165,32 @@ public class ProjectService {
         Project project = projectRepository.findById(projectId)
                 .orElseThrow(() -> new ResourceNotFoundException("Project", "id", projectId));
 
-        User user = userService.findUserEntityById(userId);
+        User user = userService.getUserReference(userId);
 
-        if (project.getMembers().contains(user)) {
+        if (project.getMembers().stream().anyMatch(member -> member.getId().equals(userId))) {
             throw new BadRequestException("User is already a member of this project");
         }
 
         project.getMembers().add(user);
         projectRepository.save(project);
+        eventPublisher.publishEvent(new ProjectChangedEvent(projectId));
         log.info("User added to project successfully");
     }
 
+    /**
+     * One managed user per id, so repeated ids or a lead listed as member never write a membership twice
+     */
+    private Set<User> membersOf(Collection<Long> memberIds, User lead) {
+        Map<Long, User> members = new LinkedHashMap<>();
+        if (memberIds != null) {
+            for (Long memberId : memberIds) {
+                members.computeIfAbsent(memberId, userService::getUserReference);
+            }
+        }
+        members.put(lead.getId(), lead);
+        return new HashSet<>(members.values());
+    }
+
     @Transactional
     public void removeMemberFromProject(Long projectId, Long userId) {
         log.info("Removing user {} from project {}", userId, projectId);
@@ -178,15 +198,16 @@ public class ProjectService {
         Project project = projectRepository.findById(projectId)
                 .orElseThrow(() -> new ResourceNotFoundException("Project", "id", projectId));
 
-        User user = userService.findUserEntityById(userId);
+        userService.findUserEntityById(userId);
 
         // Can't remove the project lead
         if (project.getLead().getId().equals(userId)) {
             throw new BadRequestException("Cannot remove project lead from members");
         }
 
-        project.getMembers().remove(user);
+        project.getMembers().removeIf(member -> member.getId().equals(userId));
         projectRepository.save(project);
+        eventPublisher.publishEvent(new ProjectChangedEvent(projectId));
         log.info("User removed from project successfully");
     }
 
@@ -222,9 +243,22 @@ public class ProjectService {
                 .orElseThrow(() -> new ResourceNotFoundException("Project", "id", id));
 
         projectRepository.delete(project);
+        eventPublisher.publishEvent(new ProjectChangedEvent(id));
         log.info("Project deleted successfully: {}", id);
     }
 
+    private ProjectResponse toResponse(Project project) {
+        return projectMapper.toResponse(project, projectStatsService.findByProjectId(project.getId()));
+    }
+
+    private List<ProjectResponse> toSummaryResponses(List<Project> projects) {
+        Map<Long, ProjectStats> stats = projectStatsService.findByProjectIds(
+                projects.stream().map(Project::getId).toList());
+        return projects.stream()
+                .map(project -> projectMapper.toSummaryResponse(project, stats.get(project.getId())))
+                .collect(Collectors.toList());
+    }
+
     /**
      * Find project entity by ID (for internal service use)
      * This method is used by other services to get the Project entity
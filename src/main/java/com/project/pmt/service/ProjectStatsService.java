@@ -0,0 +1,169 @@
+package com.project.pmt.service;
+
+import com.project.pmt.entity.ProjectStats;
+import com.project.pmt.event.IssueChangedEvent;
+import com.project.pmt.event.ProjectChangedEvent;
+import com.project.pmt.repository.ProjectStatsRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Project Stats Service
+ * Maintains the project_stats read model: issue counts per status, member count and active sprint
+ * of every project, so project lists never touch the issues or members collections.
+ * Changes arrive as issue and project events after commit and the touched projects are recomputed
+ * in small batches, so list views may lag a write by about a second. The pending set lives in
+ * memory and only sees this node's writes, so a crash can lose it; on startup and periodically,
+ * rows that are missing, older than the latest project, issue or sprint update, or whose issue
+ * count no longer matches (deletions leave no timestamp) are recomputed as well.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ProjectStatsService implements ApplicationRunner {
+
+    private static final String REFRESH_SQL = """
+            INSERT INTO project_stats (project_id, issue_count, todo_count, in_progress_count, in_review_count,
+                                       done_count, blocked_count, member_count, active_sprint_id,
+                                       active_sprint_name, refreshed_at)
+            SELECT p.id, i.total, i.todo, i.in_progress, i.in_review, i.done, i.blocked, m.total, s.id, s.name, now()
+            FROM projects p
+            CROSS JOIN LATERAL (
+                SELECT count(*) AS total,
+                       count(*) FILTER (WHERE status = 'TODO') AS todo,
+                       count(*) FILTER (WHERE status = 'IN_PROGRESS') AS in_progress,
+                       count(*) FILTER (WHERE status = 'IN_REVIEW') AS in_review,
+                       count(*) FILTER (WHERE status = 'DONE') AS done,
+                       count(*) FILTER (WHERE status = 'BLOCKED') AS blocked
+                FROM issues WHERE project_id = p.id) i
+            CROSS JOIN LATERAL (SELECT count(*) AS total FROM project_members WHERE project_id = p.id) m
+            LEFT JOIN LATERAL (
+                SELECT id, name FROM sprints WHERE project_id = p.id AND state = 'ACTIVE' ORDER BY id LIMIT 1) s ON true
+            WHERE %s
+            ON CONFLICT (project_id) DO UPDATE SET
+                issue_count = EXCLUDED.issue_count,
+                todo_count = EXCLUDED.todo_count,
+                in_progress_count = EXCLUDED.in_progress_count,
+                in_review_count = EXCLUDED.in_review_count,
+                done_count = EXCLUDED.done_count,
+                blocked_count = EXCLUDED.blocked_count,
+                member_count = EXCLUDED.member_count,
+                active_sprint_id = EXCLUDED.active_sprint_id,
+                active_sprint_name = EXCLUDED.active_sprint_name,
+                refreshed_at = EXCLUDED.refreshed_at
+            """;
+
+    private static final String STALE_CONDITION = """
+            NOT EXISTS (SELECT 1 FROM project_stats ps WHERE ps.project_id = p.id
+                        AND ps.refreshed_at >= p.updated_at
+                        AND ps.refreshed_at >= COALESCE((SELECT max(updated_at) FROM issues WHERE project_id = p.id), p.updated_at)
+                        AND ps.refreshed_at >= COALESCE((SELECT max(updated_at) FROM sprints WHERE project_id = p.id), p.updated_at)
+                        AND ps.issue_count = (SELECT count(*) FROM issues WHERE project_id = p.id))
+            """;
+
+    private static final String DELETE_ALL_ORPHANS_SQL =
+            "DELETE FROM project_stats WHERE NOT EXISTS (SELECT 1 FROM projects p WHERE p.id = project_stats.project_id)";
+
+    private static final String DELETE_ORPHANS_SQL =
+            "DELETE FROM project_stats WHERE project_id IN (:projectIds) " +
+            "AND NOT EXISTS (SELECT 1 FROM projects p WHERE p.id = project_stats.project_id)";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final ProjectStatsRepository projectStatsRepository;
+
+    private final Set<Long> pending = ConcurrentHashMap.newKeySet();
+
+    @Override
+    public void run(ApplicationArguments args) {
+        refreshStale();
+    }
+
+    /**
+     * Recompute rows a lost pending set left behind, including those of changes made on other nodes
+     */
+    @Scheduled(initialDelayString = "${project.stats.sweep-interval-ms:600000}",
+            fixedDelayString = "${project.stats.sweep-interval-ms:600000}")
+    public void refreshStale() {
+        try {
+            int refreshed = jdbcTemplate.update(String.format(REFRESH_SQL, STALE_CONDITION), new MapSqlParameterSource());
+            int removed = jdbcTemplate.update(DELETE_ALL_ORPHANS_SQL, new MapSqlParameterSource());
+            if (refreshed > 0 || removed > 0) {
+                log.info("Refreshed stale project stats for {} projects, removed {} orphaned rows", refreshed, removed);
+            }
+        } catch (DataAccessException e) {
+            log.warn("Project stats sweep failed, will retry on the next run", e);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onIssueChanged(IssueChangedEvent event) {
+        pending.addAll(event.projectIds());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProjectChanged(ProjectChangedEvent event) {
+        pending.add(event.projectId());
+    }
+
+    @Scheduled(fixedDelayString = "${project.stats.refresh-interval-ms:1000}")
+    public void applyPending() {
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        List<Long> ids = new ArrayList<>();
+        for (Iterator<Long> it = pending.iterator(); it.hasNext(); ) {
+            ids.add(it.next());
+            it.remove();
+        }
+
+        try {
+            refresh(ids);
+        } catch (DataAccessException e) {
+            log.warn("Project stats refresh failed for {} projects, will retry", ids.size(), e);
+            pending.addAll(ids);
+        }
+    }
+
+    /**
+     * Recompute the stats of these projects now and drop rows of projects that no longer exist
+     */
+    public void refresh(Collection<Long> projectIds) {
+        MapSqlParameterSource params = new MapSqlParameterSource("projectIds", projectIds);
+        jdbcTemplate.update(String.format(REFRESH_SQL, "p.id IN (:projectIds)"), params);
+        jdbcTemplate.update(DELETE_ORPHANS_SQL, params);
+    }
+
+    /**
+     * Stats of a project, null if it was not summarized yet
+     */
+    public ProjectStats findByProjectId(Long projectId) {
+        return projectStatsRepository.findById(projectId).orElse(null);
+    }
+
+    /**
+     * Stats of these projects by project id; projects not summarized yet are missing
+     */
+    public Map<Long, ProjectStats> findByProjectIds(Collection<Long> projectIds) {
+        return projectStatsRepository.findAllById(projectIds).stream()
+                .collect(Collectors.toMap(ProjectStats::getProjectId, Function.identity()));
+    }
+}
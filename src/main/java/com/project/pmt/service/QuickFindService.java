@@ -0,0 +1,129 @@
+package com.project.pmt.service;
+
+import com.project.pmt.dto.response.QuickFindItem;
+import com.project.pmt.dto.response.QuickFindResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Quick Find Service
+ * Typeahead lookup of issues and projects by partial key or title, ranked by trigram similarity.
+ * Key prefixes ("PROJ-12") rank first, then the closest title matches. Both lists come from a
+ * single statement served by the pg_trgm indexes, and the statement runs under a local
+ * statement_timeout so a slow lookup gives up instead of holding up the search box.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class QuickFindService {
+
+    private static final int MIN_QUERY_LENGTH = 2;
+
+    private static final String QUICK_FIND_SQL = """
+            (SELECT 'ISSUE' AS kind, i.id AS id, i.issue_key AS item_key, i.title AS title,
+                    GREATEST(similarity(lower(i.issue_key), :query), word_similarity(:query, lower(i.title))) AS score,
+                    lower(i.issue_key) LIKE :prefix AS key_match
+             FROM issues i
+             WHERE lower(i.issue_key) LIKE :prefix OR :query <% lower(i.title)
+             ORDER BY key_match DESC, score DESC, id DESC
+             LIMIT :limit)
+            UNION ALL
+            (SELECT 'PROJECT' AS kind, p.id AS id, p.key AS item_key, p.name AS title,
+                    GREATEST(similarity(lower(p.key), :query), word_similarity(:query, lower(p.name))) AS score,
+                    lower(p.key) LIKE :prefix AS key_match
+             FROM projects p
+             WHERE p.archived = false AND (lower(p.key) LIKE :prefix OR :query <% lower(p.name))
+             ORDER BY key_match DESC, score DESC, id DESC
+             LIMIT :limit)
+            """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final PlatformTransactionManager transactionManager;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${search.quick-find.timeout-ms:20}")
+    private long timeoutMs;
+
+    @Value("${search.quick-find.max-limit:25}")
+    private int maxLimit;
+
+    @Value("${search.quick-find.similarity-threshold:0.3}")
+    private double similarityThreshold;
+
+    private TransactionTemplate readOnlyTransaction;
+    private Counter timeoutCounter;
+
+    @PostConstruct
+    void init() {
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+        timeoutCounter = Counter.builder("pmt.search.quick-find.timeouts")
+                .description("Quick find lookups cancelled by the statement timeout")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Top matching issues and projects for a typeahead
+     * @param text Partial key or title as typed
+     * @param limit Maximum hits per kind
+     */
+    public QuickFindResponse quickFind(String text, int limit) {
+        String query = text == null ? "" : text.trim().toLowerCase(Locale.ROOT);
+        if (query.length() < MIN_QUERY_LENGTH) {
+            return QuickFindResponse.builder().issues(List.of()).projects(List.of()).build();
+        }
+
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("query", query)
+                .addValue("prefix", escapeLike(query) + "%")
+                .addValue("limit", Math.max(1, Math.min(limit, maxLimit)));
+
+        return readOnlyTransaction.execute(status -> {
+            // Both settings are LOCAL and end with this transaction
+            jdbcTemplate.getJdbcTemplate().queryForObject(
+                    "SELECT set_config('statement_timeout', ?, true)", String.class, timeoutMs + "ms");
+            jdbcTemplate.getJdbcTemplate().queryForObject(
+                    "SELECT set_config('pg_trgm.word_similarity_threshold', ?, true)", String.class,
+                    String.valueOf(similarityThreshold));
+
+            List<QuickFindItem> issues = new ArrayList<>();
+            List<QuickFindItem> projects = new ArrayList<>();
+            try {
+                jdbcTemplate.query(QUICK_FIND_SQL, params, rs -> {
+                    QuickFindItem item = QuickFindItem.builder()
+                            .id(rs.getLong("id"))
+                            .key(rs.getString("item_key"))
+                            .title(rs.getString("title"))
+                            .score(rs.getDouble("score"))
+                            .build();
+                    ("ISSUE".equals(rs.getString("kind")) ? issues : projects).add(item);
+                });
+            } catch (QueryTimeoutException e) {
+                log.warn("Quick find for '{}' exceeded {} ms", query, timeoutMs);
+                timeoutCounter.increment();
+                status.setRollbackOnly();
+                return QuickFindResponse.builder().issues(List.of()).projects(List.of()).timedOut(true).build();
+            }
+
+            return QuickFindResponse.builder().issues(issues).projects(projects).build();
+        });
+    }
+
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
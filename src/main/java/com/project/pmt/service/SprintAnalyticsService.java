@@ -0,0 +1,433 @@
+package com.project.pmt.service;
+
+import com.project.pmt.dto.response.SprintBurndownResponse;
+import com.project.pmt.dto.response.SprintDayResponse;
+import com.project.pmt.dto.response.SprintVelocityResponse;
+import com.project.pmt.dto.response.VelocityResponse;
+import com.project.pmt.entity.Sprint;
+import com.project.pmt.enums.SprintState;
+import com.project.pmt.event.IssueChangedEvent;
+import com.project.pmt.exceptions.ResourceNotFoundException;
+import com.project.pmt.repository.SprintRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Sprint Analytics Service
+ * Records one snapshot per sprint and day (issues, done issues, total and remaining estimate, and
+ * the scope added or removed that day) so burndown, burnup and velocity are read in O(days).
+ * Issue changes arrive as events after commit. Each batch compares the changed issues against
+ * sprint_scope, the last state seen per issue, to find scope changes, then recomputes today's
+ * snapshot of the touched sprints only. A daily job carries open sprints into the new day.
+ * Completed sprints are frozen, so their last snapshot is the state they were closed in; completing a
+ * sprint writes that snapshot synchronously, so changes still waiting for a batch are not lost.
+ * The pending set lives in memory and only sees this node's writes, so on startup and periodically
+ * sprint_scope is diffed against the issues table and the issues that disagree are applied again.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class SprintAnalyticsService implements ApplicationRunner {
+
+    private static final String LOCK_SQL = "SELECT pg_advisory_xact_lock(hashtext('sprint_analytics'))";
+
+    private static final String CURRENT_ISSUES_SQL =
+            "SELECT id, sprint_id, COALESCE(estimated_hours, 0) AS estimated_hours, status = 'DONE' AS done " +
+            "FROM issues WHERE id IN (:issueIds) AND sprint_id IS NOT NULL";
+
+    private static final String PREVIOUS_SCOPE_SQL =
+            "SELECT issue_id, sprint_id, estimated_hours, done FROM sprint_scope WHERE issue_id IN (:issueIds)";
+
+    private static final String UPSERT_SCOPE_SQL =
+            "INSERT INTO sprint_scope (issue_id, sprint_id, estimated_hours, done) " +
+            "VALUES (:issueId, :sprintId, :estimatedHours, :done) " +
+            "ON CONFLICT (issue_id) DO UPDATE SET sprint_id = EXCLUDED.sprint_id, " +
+            "estimated_hours = EXCLUDED.estimated_hours, done = EXCLUDED.done";
+
+    private static final String SPRINT_ISSUES_SQL =
+            "SELECT id FROM issues WHERE sprint_id = :sprintId " +
+            "UNION SELECT issue_id FROM sprint_scope WHERE sprint_id = :sprintId";
+
+    private static final String DELETE_SCOPE_SQL = "DELETE FROM sprint_scope WHERE issue_id IN (:issueIds)";
+
+    private static final String BACKFILL_SCOPE_SQL =
+            "INSERT INTO sprint_scope (issue_id, sprint_id, estimated_hours, done) " +
+            "SELECT id, sprint_id, COALESCE(estimated_hours, 0), status = 'DONE' FROM issues " +
+            "WHERE sprint_id IS NOT NULL ON CONFLICT (issue_id) DO NOTHING";
+
+    private static final String SCOPE_EMPTY_SQL = "SELECT NOT EXISTS (SELECT 1 FROM sprint_scope)";
+
+    // Issues whose sprint, estimate or done flag differ from sprint_scope, including issues gone or out of sprints
+    private static final String DRIFTED_ISSUES_SQL = """
+            SELECT i.id FROM issues i
+            LEFT JOIN sprint_scope sc ON sc.issue_id = i.id
+            WHERE i.sprint_id IS NOT NULL
+              AND (sc.issue_id IS NULL OR sc.sprint_id <> i.sprint_id
+                   OR sc.estimated_hours <> COALESCE(i.estimated_hours, 0) OR sc.done <> (i.status = 'DONE'))
+            UNION
+            SELECT sc.issue_id FROM sprint_scope sc
+            LEFT JOIN issues i ON i.id = sc.issue_id
+            WHERE i.id IS NULL OR i.sprint_id IS NULL
+            """;
+
+    private static final String UPSERT_SNAPSHOT_SQL = """
+            INSERT INTO sprint_snapshots (sprint_id, day, issue_count, done_count, total_hours, remaining_hours,
+                                          scope_added, scope_removed)
+            SELECT s.id, :day, count(sc.issue_id), count(sc.issue_id) FILTER (WHERE sc.done),
+                   COALESCE(sum(sc.estimated_hours), 0),
+                   COALESCE(sum(sc.estimated_hours) FILTER (WHERE NOT sc.done), 0),
+                   :scopeAdded, :scopeRemoved
+            FROM sprints s
+            LEFT JOIN sprint_scope sc ON sc.sprint_id = s.id
+            WHERE %s AND s.state <> 'COMPLETED'
+            GROUP BY s.id
+            ON CONFLICT (sprint_id, day) DO UPDATE SET
+                issue_count = EXCLUDED.issue_count,
+                done_count = EXCLUDED.done_count,
+                total_hours = EXCLUDED.total_hours,
+                remaining_hours = EXCLUDED.remaining_hours,
+                scope_added = sprint_snapshots.scope_added + EXCLUDED.scope_added,
+                scope_removed = sprint_snapshots.scope_removed + EXCLUDED.scope_removed
+            """;
+
+    private static final String SNAPSHOTS_SQL =
+            "SELECT day, issue_count, done_count, total_hours, remaining_hours, scope_added, scope_removed " +
+            "FROM sprint_snapshots WHERE sprint_id = :sprintId ORDER BY day";
+
+    private static final String VELOCITY_SQL = """
+            SELECT s.id, s.name, s.end_date, ss.issue_count, ss.done_count, ss.total_hours, ss.remaining_hours
+            FROM (SELECT id, name, end_date FROM sprints
+                  WHERE project_id = :projectId AND state = 'COMPLETED'
+                  ORDER BY end_date DESC NULLS LAST, id DESC
+                  LIMIT :limit) s
+            JOIN LATERAL (SELECT * FROM sprint_snapshots WHERE sprint_id = s.id ORDER BY day DESC LIMIT 1) ss ON true
+            ORDER BY s.end_date DESC NULLS LAST, s.id DESC
+            """;
+
+    private static final int MAX_VELOCITY_SPRINTS = 50;
+    private static final int RECONCILE_BATCH_SIZE = 1000;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final PlatformTransactionManager transactionManager;
+    private final SprintRepository sprintRepository;
+
+    private final Set<Long> pending = ConcurrentHashMap.newKeySet();
+    private TransactionTemplate transactionTemplate;
+
+    private record ScopeRow(Long sprintId, int estimatedHours, boolean done) {
+    }
+
+    @PostConstruct
+    void init() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * Start tracking issues already in sprints on first run; history before this point is not available.
+     * Later runs repair whatever a lost pending set left behind.
+     */
+    @Override
+    public void run(ApplicationArguments args) {
+        transactionTemplate.executeWithoutResult(txStatus -> {
+            lock();
+            if (Boolean.TRUE.equals(jdbcTemplate.queryForObject(SCOPE_EMPTY_SQL, new MapSqlParameterSource(), Boolean.class))) {
+                int tracked = jdbcTemplate.update(BACKFILL_SCOPE_SQL, new MapSqlParameterSource());
+                if (tracked > 0) {
+                    log.info("Sprint analytics now tracking {} existing sprint issues", tracked);
+                }
+            }
+            snapshotOpenSprints();
+        });
+        reconcile();
+    }
+
+    /**
+     * Re-apply issues whose tracked scope no longer matches the issues table, e.g. changes queued on a node
+     * that crashed or changes this node never heard of. Their scope moves count as added or removed today.
+     */
+    @Scheduled(initialDelayString = "${sprint.analytics.reconcile-interval-ms:600000}",
+            fixedDelayString = "${sprint.analytics.reconcile-interval-ms:600000}")
+    public void reconcile() {
+        try {
+            List<Long> drifted = jdbcTemplate.queryForList(DRIFTED_ISSUES_SQL, new MapSqlParameterSource(), Long.class);
+            for (int from = 0; from < drifted.size(); from += RECONCILE_BATCH_SIZE) {
+                List<Long> batch = drifted.subList(from, Math.min(from + RECONCILE_BATCH_SIZE, drifted.size()));
+                transactionTemplate.executeWithoutResult(txStatus -> apply(batch));
+            }
+            if (!drifted.isEmpty()) {
+                log.info("Sprint analytics reconciled {} issues", drifted.size());
+            }
+        } catch (DataAccessException e) {
+            log.warn("Sprint analytics reconciliation failed, will retry on the next run", e);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onIssueChanged(IssueChangedEvent event) {
+        pending.addAll(event.issueIds());
+    }
+
+    @Scheduled(fixedDelayString = "${sprint.analytics.refresh-interval-ms:1000}")
+    public void applyPending() {
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        List<Long> ids = new ArrayList<>();
+        for (Iterator<Long> it = pending.iterator(); it.hasNext(); ) {
+            ids.add(it.next());
+            it.remove();
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(txStatus -> apply(ids));
+        } catch (DataAccessException e) {
+            log.warn("Sprint analytics update failed for {} issues, will retry", ids.size(), e);
+            pending.addAll(ids);
+        }
+    }
+
+    /**
+     * Give every open sprint a snapshot for the new day, even if none of its issues change
+     */
+    @Scheduled(cron = "${sprint.analytics.daily-snapshot-cron:0 5 0 * * *}")
+    public void snapshotOpenSprintsDaily() {
+        transactionTemplate.executeWithoutResult(txStatus -> {
+            lock();
+            snapshotOpenSprints();
+        });
+    }
+
+    /**
+     * Write the final snapshot of a sprint that is being completed.
+     * Runs in the caller's transaction before the sprint is marked completed, since completed sprints
+     * are frozen: the sprint's issues are folded in now instead of waiting for the next batch.
+     */
+    public void freezeSprint(Long sprintId) {
+        lock();
+        List<Long> issueIds = jdbcTemplate.queryForList(SPRINT_ISSUES_SQL,
+                new MapSqlParameterSource("sprintId", sprintId), Long.class);
+        if (issueIds.isEmpty()) {
+            jdbcTemplate.update(String.format(UPSERT_SNAPSHOT_SQL, "s.id = :sprintId"), new MapSqlParameterSource()
+                    .addValue("sprintId", sprintId)
+                    .addValue("day", LocalDate.now())
+                    .addValue("scopeAdded", 0)
+                    .addValue("scopeRemoved", 0));
+            return;
+        }
+        apply(issueIds);
+    }
+
+    private void lock() {
+        jdbcTemplate.getJdbcTemplate().query(LOCK_SQL, rs -> {
+        });
+    }
+
+    private void snapshotOpenSprints() {
+        jdbcTemplate.update(String.format(UPSERT_SNAPSHOT_SQL, "true"), new MapSqlParameterSource()
+                .addValue("day", LocalDate.now())
+                .addValue("scopeAdded", 0)
+                .addValue("scopeRemoved", 0));
+    }
+
+    /**
+     * Fold a batch of changed issues into sprint_scope and today's snapshots.
+     * Serialized across instances by an advisory lock, so two batches never diff the same issue at once.
+     */
+    private void apply(List<Long> issueIds) {
+        lock();
+        MapSqlParameterSource idParams = new MapSqlParameterSource("issueIds", issueIds);
+
+        Map<Long, ScopeRow> current = new HashMap<>();
+        jdbcTemplate.query(CURRENT_ISSUES_SQL, idParams, rs -> {
+            current.put(rs.getLong("id"), new ScopeRow(
+                    rs.getLong("sprint_id"), rs.getInt("estimated_hours"), rs.getBoolean("done")));
+        });
+        Map<Long, ScopeRow> previous = new HashMap<>();
+        jdbcTemplate.query(PREVIOUS_SCOPE_SQL, idParams, rs -> {
+            previous.put(rs.getLong("issue_id"), new ScopeRow(
+                    rs.getLong("sprint_id"), rs.getInt("estimated_hours"), rs.getBoolean("done")));
+        });
+
+        Map<Long, int[]> scopeChanges = new HashMap<>();
+        Set<Long> touchedSprints = new HashSet<>();
+        List<Long> leftSprints = new ArrayList<>();
+        List<SqlParameterSource> upserts = new ArrayList<>();
+        for (Long issueId : issueIds) {
+            ScopeRow before = previous.get(issueId);
+            ScopeRow after = current.get(issueId);
+            Long sprintBefore = before != null ? before.sprintId() : null;
+            Long sprintAfter = after != null ? after.sprintId() : null;
+
+            if (!Objects.equals(sprintBefore, sprintAfter)) {
+                if (sprintBefore != null) {
+                    scopeChanges.computeIfAbsent(sprintBefore, key -> new int[2])[1]++;
+                }
+                if (sprintAfter != null) {
+                    scopeChanges.computeIfAbsent(sprintAfter, key -> new int[2])[0]++;
+                }
+            }
+            if (sprintBefore != null) {
+                touchedSprints.add(sprintBefore);
+            }
+            if (after != null) {
+                touchedSprints.add(sprintAfter);
+                if (!after.equals(before)) {
+                    upserts.add(new MapSqlParameterSource()
+                            .addValue("issueId", issueId)
+                            .addValue("sprintId", after.sprintId())
+                            .addValue("estimatedHours", after.estimatedHours())
+                            .addValue("done", after.done()));
+                }
+            } else if (before != null) {
+                leftSprints.add(issueId);
+            }
+        }
+
+        if (!leftSprints.isEmpty()) {
+            jdbcTemplate.update(DELETE_SCOPE_SQL, new MapSqlParameterSource("issueIds", leftSprints));
+        }
+        if (!upserts.isEmpty()) {
+            jdbcTemplate.batchUpdate(UPSERT_SCOPE_SQL, upserts.toArray(SqlParameterSource[]::new));
+        }
+
+        LocalDate today = LocalDate.now();
+        List<SqlParameterSource> snapshots = new ArrayList<>(touchedSprints.size());
+        for (Long sprintId : touchedSprints) {
+            int[] changes = scopeChanges.getOrDefault(sprintId, new int[2]);
+            snapshots.add(new MapSqlParameterSource()
+                    .addValue("sprintId", sprintId)
+                    .addValue("day", today)
+                    .addValue("scopeAdded", changes[0])
+                    .addValue("scopeRemoved", changes[1]));
+        }
+        if (!snapshots.isEmpty()) {
+            jdbcTemplate.batchUpdate(String.format(UPSERT_SNAPSHOT_SQL, "s.id = :sprintId"),
+                    snapshots.toArray(SqlParameterSource[]::new));
+        }
+    }
+
+    /**
+     * Daily series of a sprint from its first snapshot, with days without changes carried forward.
+     * Open sprints end today, completed sprints at their end date or last snapshot.
+     */
+    public SprintBurndownResponse getBurndown(Long sprintId) {
+        Sprint sprint = sprintRepository.findById(sprintId)
+                .orElseThrow(() -> new ResourceNotFoundException("Sprint", "id", sprintId));
+
+        Map<LocalDate, SprintDayResponse> snapshots = new HashMap<>();
+        List<LocalDate> snapshotDays = new ArrayList<>();
+        jdbcTemplate.query(SNAPSHOTS_SQL, new MapSqlParameterSource("sprintId", sprintId), rs -> {
+            LocalDate day = rs.getObject("day", LocalDate.class);
+            snapshotDays.add(day);
+            snapshots.put(day, SprintDayResponse.builder()
+                    .day(day)
+                    .issueCount(rs.getInt("issue_count"))
+                    .doneCount(rs.getInt("done_count"))
+                    .totalHours(rs.getInt("total_hours"))
+                    .remainingHours(rs.getInt("remaining_hours"))
+                    .scopeAdded(rs.getInt("scope_added"))
+                    .scopeRemoved(rs.getInt("scope_removed"))
+                    .build());
+        });
+
+        SprintBurndownResponse.SprintBurndownResponseBuilder response = SprintBurndownResponse.builder()
+                .sprintId(sprintId)
+                .sprintName(sprint.getName())
+                .state(sprint.getState())
+                .startDate(sprint.getStartDate())
+                .endDate(sprint.getEndDate());
+        if (snapshotDays.isEmpty()) {
+            return response.days(List.of()).build();
+        }
+
+        LocalDate first = snapshotDays.get(0);
+        LocalDate lastSnapshot = snapshotDays.get(snapshotDays.size() - 1);
+        LocalDate today = LocalDate.now();
+        LocalDate last = sprint.getState() == SprintState.COMPLETED
+                ? (sprint.getEndDate() != null && sprint.getEndDate().isAfter(lastSnapshot) ? sprint.getEndDate() : lastSnapshot)
+                : (sprint.getEndDate() != null && sprint.getEndDate().isBefore(today) ? sprint.getEndDate() : today);
+        if (last.isBefore(lastSnapshot)) {
+            last = lastSnapshot;
+        }
+
+        int idealStartHours = snapshots.get(first).getTotalHours();
+        long idealDays = sprint.getEndDate() != null ? ChronoUnit.DAYS.between(first, sprint.getEndDate()) : 0;
+
+        List<SprintDayResponse> days = new ArrayList<>();
+        SprintDayResponse carried = null;
+        for (LocalDate day = first; !day.isAfter(last); day = day.plusDays(1)) {
+            SprintDayResponse snapshot = snapshots.get(day);
+            if (snapshot == null) {
+                snapshot = SprintDayResponse.builder()
+                        .day(day)
+                        .issueCount(carried.getIssueCount())
+                        .doneCount(carried.getDoneCount())
+                        .totalHours(carried.getTotalHours())
+                        .remainingHours(carried.getRemainingHours())
+                        .scopeAdded(0)
+                        .scopeRemoved(0)
+                        .build();
+            }
+            snapshot.setRemainingCount(snapshot.getIssueCount() - snapshot.getDoneCount());
+            snapshot.setCompletedHours(snapshot.getTotalHours() - snapshot.getRemainingHours());
+            if (idealDays > 0) {
+                long elapsed = ChronoUnit.DAYS.between(first, day);
+                snapshot.setIdealRemainingHours(Math.max(0.0, idealStartHours * (1.0 - (double) elapsed / idealDays)));
+            }
+            days.add(snapshot);
+            carried = snapshot;
+        }
+        return response.days(days).build();
+    }
+
+    /**
+     * Work completed in each of the project's last completed sprints, and the rolling average
+     */
+    public VelocityResponse getVelocity(Long projectId, int sprintCount) {
+        int limit = Math.max(1, Math.min(sprintCount, MAX_VELOCITY_SPRINTS));
+        List<SprintVelocityResponse> sprints = jdbcTemplate.query(VELOCITY_SQL,
+                new MapSqlParameterSource().addValue("projectId", projectId).addValue("limit", limit),
+                (rs, rowNum) -> SprintVelocityResponse.builder()
+                        .sprintId(rs.getLong("id"))
+                        .sprintName(rs.getString("name"))
+                        .endDate(rs.getObject("end_date", LocalDate.class))
+                        .issueCount(rs.getInt("issue_count"))
+                        .completedIssues(rs.getInt("done_count"))
+                        .totalHours(rs.getInt("total_hours"))
+                        .completedHours(rs.getInt("total_hours") - rs.getInt("remaining_hours"))
+                        .build());
+
+        return VelocityResponse.builder()
+                .projectId(projectId)
+                .sprintCount(sprints.size())
+                .averageCompletedIssues(sprints.stream().mapToInt(SprintVelocityResponse::getCompletedIssues).average().orElse(0))
+                .averageCompletedHours(sprints.stream().mapToInt(SprintVelocityResponse::getCompletedHours).average().orElse(0))
+                .sprints(sprints)
+                .build();
+    }
+}
@@ -6,6 +6,7 @@ import com.project.pmt.dto.response.SprintResponse;
 import com.project.pmt.entity.Project;
 import com.project.pmt.entity.Sprint;
 import com.project.pmt.enums.SprintState;
+import com.project.pmt.event.ProjectChangedEvent;
 import com.project.pmt.exceptions.BadRequestException;
 import com.project.pmt.exceptions.ResourceNotFoundException;
 import com.project.pmt.mapper.SprintMapper;
@@ -13,6 +14,7 @@ import com.project.pmt.repository.SprintRepository;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
@@ -26,6 +28,8 @@ public class SprintService {
     private final SprintRepository sprintRepository;
     private final ProjectService projectService;
     private final SprintMapper sprintMapper;
+    private final SprintAnalyticsService sprintAnalyticsService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public SprintResponse createSprint(CreateSprintRequest request) {
@@ -42,6 +46,7 @@ public class SprintService {
         sprint.setState(request.getState() != null ? request.getState() : SprintState.PLANNED);
 
         sprint = sprintRepository.save(sprint);
+        eventPublisher.publishEvent(new ProjectChangedEvent(sprint.getProject().getId()));
         log.info("Sprint created successfully: {}", sprint.getId());
 
         return sprintMapper.toResponse(sprint);
@@ -85,10 +90,14 @@ public class SprintService {
             sprint.setEndDate(request.getEndDate());
         }
         if (request.getState() != null) {
+            if (request.getState() == SprintState.COMPLETED && sprint.getState() != SprintState.COMPLETED) {
+                sprintAnalyticsService.freezeSprint(sprint.getId());
+            }
             sprint.setState(request.getState());
         }
 
         sprint = sprintRepository.save(sprint);
+        eventPublisher.publishEvent(new ProjectChangedEvent(sprint.getProject().getId()));
         log.info("Sprint updated successfully: {}", sprint.getId());
 
         return sprintMapper.toResponse(sprint);
@@ -109,6 +118,7 @@ public class SprintService {
 
         sprint.setState(SprintState.ACTIVE);
         sprint = sprintRepository.save(sprint);
+        eventPublisher.publishEvent(new ProjectChangedEvent(sprint.getProject().getId()));
         log.info("Sprint started successfully: {}", sprint.getId());
 
         return sprintMapper.toResponse(sprint);
@@ -121,8 +131,11 @@ public class SprintService {
         Sprint sprint = sprintRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Sprint", "id", id));
 
+        // Before the state change: completed sprints no longer take snapshots
+        sprintAnalyticsService.freezeSprint(sprint.getId());
         sprint.setState(SprintState.COMPLETED);
         sprint = sprintRepository.save(sprint);
+        eventPublisher.publishEvent(new ProjectChangedEvent(sprint.getProject().getId()));
         log.info("Sprint completed successfully: {}", sprint.getId());
 
         return sprintMapper.toResponse(sprint);
@@ -140,6 +153,7 @@ public class SprintService {
         }
 
         sprintRepository.delete(sprint);
+        eventPublisher.publishEvent(new ProjectChangedEvent(sprint.getProject().getId()));
         log.info("Sprint deleted successfully: {}", id);
     }
 }
\ No newline at end of file
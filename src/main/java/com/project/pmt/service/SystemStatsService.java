@@ -0,0 +1,141 @@
+package com.project.pmt.service;
+
+import com.project.pmt.dto.response.SystemStatsResponse;
+import com.project.pmt.enums.IssueStatus;
+import com.project.pmt.enums.Priority;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * System Stats Service
+ * Computes the admin dashboard totals in one round trip that scans each table once, and keeps the
+ * last result in memory. Dashboard requests and the pmt.system.* gauges only read that snapshot,
+ * so refreshing a dashboard never touches the database; numbers lag by at most the refresh interval.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class SystemStatsService {
+
+    private static final String STATS_SQL = """
+            SELECT 'users' AS metric, CAST(NULL AS varchar) AS status, CAST(NULL AS varchar) AS priority,
+                   count(*) AS total, count(*) FILTER (WHERE is_active) AS extra
+            FROM users
+            UNION ALL
+            SELECT 'projects', NULL, NULL, count(*), count(*) FILTER (WHERE archived) FROM projects
+            UNION ALL
+            SELECT 'issues', status, priority, count(*), 0 FROM issues GROUP BY status, priority
+            UNION ALL
+            SELECT 'attachments', NULL, NULL, count(*), coalesce(sum(size), 0) FROM attachments
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final MeterRegistry meterRegistry;
+
+    private final AtomicReference<SystemStatsResponse> snapshot = new AtomicReference<>();
+
+    @PostConstruct
+    void registerGauges() {
+        gauge("pmt.system.users", "Registered users", SystemStatsResponse::getTotalUsers);
+        gauge("pmt.system.users.active", "Active users", SystemStatsResponse::getActiveUsers);
+        gauge("pmt.system.projects", "Projects", SystemStatsResponse::getTotalProjects);
+        gauge("pmt.system.projects.archived", "Archived projects", SystemStatsResponse::getArchivedProjects);
+        gauge("pmt.system.attachments", "Attachments", SystemStatsResponse::getAttachmentCount);
+        gauge("pmt.system.storage.bytes", "Bytes stored in attachments", SystemStatsResponse::getStorageBytes);
+        for (IssueStatus status : IssueStatus.values()) {
+            Gauge.builder("pmt.system.issues.status", snapshot, ref -> value(ref.get(), stats -> stats.getIssuesByStatus().get(status)))
+                    .description("Issues per status")
+                    .tag("status", status.name())
+                    .register(meterRegistry);
+        }
+        for (Priority priority : Priority.values()) {
+            Gauge.builder("pmt.system.issues.priority", snapshot, ref -> value(ref.get(), stats -> stats.getIssuesByPriority().get(priority)))
+                    .description("Issues per priority")
+                    .tag("priority", priority.name())
+                    .register(meterRegistry);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${admin.stats.refresh-interval-ms:60000}")
+    public void scheduledRefresh() {
+        try {
+            refresh();
+        } catch (DataAccessException e) {
+            log.warn("System stats refresh failed, keeping the previous snapshot", e);
+        }
+    }
+
+    /**
+     * Latest snapshot, computed now if no refresh has completed yet
+     */
+    public SystemStatsResponse getStats() {
+        SystemStatsResponse stats = snapshot.get();
+        return stats != null ? stats : refresh();
+    }
+
+    /**
+     * Recompute all totals and replace the snapshot
+     */
+    public SystemStatsResponse refresh() {
+        Map<IssueStatus, Long> byStatus = new EnumMap<>(IssueStatus.class);
+        Map<Priority, Long> byPriority = new EnumMap<>(Priority.class);
+        for (IssueStatus status : IssueStatus.values()) {
+            byStatus.put(status, 0L);
+        }
+        for (Priority priority : Priority.values()) {
+            byPriority.put(priority, 0L);
+        }
+        SystemStatsResponse.SystemStatsResponseBuilder builder = SystemStatsResponse.builder()
+                .totalIssues(0L)
+                .issuesByStatus(byStatus)
+                .issuesByPriority(byPriority);
+
+        jdbcTemplate.query(STATS_SQL, rs -> {
+            long total = rs.getLong("total");
+            long extra = rs.getLong("extra");
+            switch (rs.getString("metric")) {
+                case "users" -> builder.totalUsers(total).activeUsers(extra);
+                case "projects" -> builder.totalProjects(total).archivedProjects(extra);
+                case "attachments" -> builder.attachmentCount(total).storageBytes(extra);
+                case "issues" -> {
+                    byStatus.merge(IssueStatus.valueOf(rs.getString("status")), total, Long::sum);
+                    byPriority.merge(Priority.valueOf(rs.getString("priority")), total, Long::sum);
+                }
+                default -> {
+                }
+            }
+        });
+
+        SystemStatsResponse stats = builder
+                .totalIssues(byStatus.values().stream().mapToLong(Long::longValue).sum())
+                .refreshedAt(LocalDateTime.now())
+                .build();
+        snapshot.set(stats);
+        log.debug("Refreshed system stats: {} users, {} projects, {} issues",
+                stats.getTotalUsers(), stats.getTotalProjects(), stats.getTotalIssues());
+        return stats;
+    }
+
+    private void gauge(String name, String description, ToDoubleFunction<SystemStatsResponse> metric) {
+        Gauge.builder(name, snapshot, ref -> value(ref.get(), metric))
+                .description(description)
+                .register(meterRegistry);
+    }
+
+    private static double value(SystemStatsResponse stats, ToDoubleFunction<SystemStatsResponse> metric) {
+        return stats != null ? metric.applyAsDouble(stats) : Double.NaN;
+    }
+}
@@ -1,5 +1,6 @@
 package com.project.pmt.service;
 
+import com.project.pmt.cache.UserCache;
 import com.project.pmt.dto.response.UserResponse;
 import com.project.pmt.entity.User;
 import com.project.pmt.enums.Role;
@@ -7,15 +8,20 @@ import com.project.pmt.exceptions.ResourceNotFoundException;
 import com.project.pmt.exceptions.UnauthorizedException;
 import com.project.pmt.mapper.UserMapper;
 import com.project.pmt.repository.UserRepository;
+import com.project.pmt.util.AfterCommit;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
 
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 
@@ -26,12 +32,27 @@ public class UserService {
 
     private final UserRepository userRepository;
     private final UserMapper userMapper;
+    private final UserCache userCache;
+
+    private static final String CURRENT_USER_ATTRIBUTE = UserService.class.getName() + ".currentUser";
 
     public UserResponse getCurrentUser(){
         User user = getCurrentUserEntity();
         return userMapper.toResponse(user);
     }
 
+    /**
+     * ID of the authenticated user, empty outside a user request (e.g. scheduled jobs)
+     */
+    public Optional<Long> findCurrentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()
+                || authentication instanceof AnonymousAuthenticationToken) {
+            return Optional.empty();
+        }
+        return Optional.of(getCurrentUserEntity().getId());
+    }
+
     public User getCurrentUserEntity(){
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
 
@@ -51,11 +72,24 @@ public class UserService {
             log.error("Unknown principal type:{}", principal.getClass().getName());
             throw new UnauthorizedException("Invalid Authentication principal");
         }
-        return userRepository.findByUsername(username)
+
+        // Resolved once per request; later calls in the same request reuse the instance
+        RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+        if (requestAttributes != null
+                && requestAttributes.getAttribute(CURRENT_USER_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST) instanceof User user
+                && user.getUsername().equals(username)) {
+            return user;
+        }
+
+        User user = userCache.findByUsername(username)
                 .orElseThrow(()->{
                     log.error("User not found with username: {}", username);
                     return new ResourceNotFoundException("User", "username", username);
                 });
+        if (requestAttributes != null) {
+            requestAttributes.setAttribute(CURRENT_USER_ATTRIBUTE, user, RequestAttributes.SCOPE_REQUEST);
+        }
+        return user;
     }
 
     public UserResponse getUserByUsername (String username){
@@ -125,6 +159,7 @@ public class UserService {
         }
 
         user = userRepository.save(user);
+        AfterCommit.run(() -> userCache.evict(id));
         log.info("User updated successfully: {}", user.getId());
 
         return userMapper.toResponse(user);
@@ -139,6 +174,7 @@ public class UserService {
 
         user.setRole(role);
         user = userRepository.save(user);
+        AfterCommit.run(() -> userCache.evict(id));
         log.info("User role updated successfully: {} -> {}", user.getId(), role);
 
         return userMapper.toResponse(user);
@@ -153,6 +189,7 @@ public class UserService {
 
         user.setIsActive(false);
         userRepository.save(user);
+        AfterCommit.run(() -> userCache.evict(id));
         log.info("User deactivated successfully: {}", user.getId());
     }
 
@@ -165,6 +202,7 @@ public class UserService {
 
         user.setIsActive(true);
         userRepository.save(user);
+        AfterCommit.run(() -> userCache.evict(id));
         log.info("User activated successfully: {}", user.getId());
     }
 
@@ -176,17 +214,31 @@ public class UserService {
                 .orElseThrow(() -> new ResourceNotFoundException("User", "id", id));
 
         userRepository.delete(user);
+        AfterCommit.run(() -> userCache.evict(id));
         log.info("User deleted successfully: {}", id);
     }
 
+    /**
+     * Detached copy from the user cache; fine for reading fields or setting a many-to-one,
+     * but not for collections, where every call would add a distinct instance of the same user
+     */
     public User findUserEntityById(Long id) {
-        return userRepository.findById(id)
+        return userCache.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("User", "id", id));
     }
 
+    /**
+     * Managed reference to an existing user, for adding to entity collections inside a transaction.
+     * Existence is checked against the user cache; the persistence context hands out one instance per user.
+     */
+    public User getUserReference(Long id) {
+        findUserEntityById(id);
+        return userRepository.getReferenceById(id);
+    }
+
 
     public User findUserEntityByUsername(String username) {
-        return userRepository.findByUsername(username)
+        return userCache.findByUsername(username)
                 .orElseThrow(() -> new ResourceNotFoundException("User", "username", username));
     }
 
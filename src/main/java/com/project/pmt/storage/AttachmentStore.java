@@ -0,0 +1,22 @@
+package com.project.pmt.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Storage backend for attachment content.
+ * Content is streamed from the caller's input stream; implementations hold at most a bounded
+ * amount of it in memory and compute its SHA-256 while it passes through.
+ */
+public interface AttachmentStore {
+
+    /**
+     * Store the stream under the key; the stream is read to the end but not closed
+     */
+    StoredObject store(String key, String contentType, InputStream content) throws IOException;
+
+    /**
+     * Remove the object a previously returned url points to; missing objects are ignored
+     */
+    void delete(String url) throws IOException;
+}
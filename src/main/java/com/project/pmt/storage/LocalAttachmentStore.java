@@ -0,0 +1,46 @@
+package com.project.pmt.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+
+/**
+ * Attachments on the local filesystem, served under /uploads/.
+ * Content is copied through a fixed-size buffer into a temporary file that is moved into place
+ * once complete, so a failed upload never leaves a partial file behind.
+ */
+public class LocalAttachmentStore implements AttachmentStore {
+
+    private static final String URL_PREFIX = "/uploads/";
+
+    private final Path directory;
+
+    public LocalAttachmentStore(Path directory) {
+        this.directory = directory;
+    }
+
+    @Override
+    public StoredObject store(String key, String contentType, InputStream content) throws IOException {
+        Files.createDirectories(directory);
+        MessageDigest digest = ContentDigest.sha256();
+        Path temp = Files.createTempFile(directory, ".upload-", ".tmp");
+        try {
+            long size = Files.copy(new DigestInputStream(content, digest), temp, StandardCopyOption.REPLACE_EXISTING);
+            Files.move(temp, directory.resolve(key), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            return new StoredObject(URL_PREFIX + key, size, ContentDigest.hex(digest));
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    @Override
+    public void delete(String url) throws IOException {
+        if (url.startsWith(URL_PREFIX)) {
+            Files.deleteIfExists(directory.resolve(url.substring(URL_PREFIX.length())));
+        }
+    }
+}
@@ -0,0 +1,219 @@
+package com.project.pmt.storage;
+
+import lombok.extern.slf4j.Slf4j;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.CompletedMultipartUpload;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Attachments in an S3 bucket (or an S3-compatible store such as MinIO when an endpoint is set).
+ * Content is read in part-size chunks: anything that fits in one chunk is a single PutObject,
+ * larger content becomes a multipart upload whose parts are sent on virtual threads while the
+ * next chunk is read. Every chunk in memory holds a permit from a semaphore shared by all uploads,
+ * so buffered upload content never exceeds part size times max-buffered-parts. A failed part
+ * aborts the multipart upload.
+ */
+@Slf4j
+public class S3AttachmentStore implements AttachmentStore {
+
+    /** S3 rejects multipart parts smaller than this, except the last one */
+    private static final int MIN_PART_SIZE = 5 * 1024 * 1024;
+
+    private final S3Client s3Client;
+    private final String bucket;
+    private final String urlPrefix;
+    private final int partSize;
+    private final Semaphore bufferPermits;
+    private final ExecutorService partExecutor = Executors.newVirtualThreadPerTaskExecutor();
+
+    public S3AttachmentStore(S3Client s3Client, String bucket, String urlPrefix, int partSize, int maxBufferedParts) {
+        if (partSize < MIN_PART_SIZE) {
+            throw new IllegalArgumentException("S3 part size must be at least 5MB");
+        }
+        this.s3Client = s3Client;
+        this.bucket = bucket;
+        this.urlPrefix = urlPrefix.endsWith("/") ? urlPrefix : urlPrefix + "/";
+        this.partSize = partSize;
+        this.bufferPermits = new Semaphore(maxBufferedParts);
+    }
+
+    @Override
+    public StoredObject store(String key, String contentType, InputStream content) throws IOException {
+        MessageDigest digest = ContentDigest.sha256();
+        InputStream in = new DigestInputStream(content, digest);
+
+        acquire();
+        byte[] first;
+        try {
+            first = in.readNBytes(partSize);
+        } catch (IOException | RuntimeException e) {
+            bufferPermits.release();
+            throw e;
+        }
+
+        if (first.length < partSize) {
+            try {
+                s3Client.putObject(PutObjectRequest.builder()
+                        .bucket(bucket)
+                        .key(key)
+                        .contentType(contentType)
+                        .build(), RequestBody.fromBytes(first));
+            } finally {
+                bufferPermits.release();
+            }
+            return new StoredObject(urlPrefix + key, first.length, ContentDigest.hex(digest));
+        }
+
+        String uploadId;
+        try {
+            uploadId = s3Client.createMultipartUpload(request -> request
+                    .bucket(bucket)
+                    .key(key)
+                    .contentType(contentType)).uploadId();
+        } catch (RuntimeException e) {
+            bufferPermits.release();
+            throw e;
+        }
+
+        List<Future<CompletedPart>> parts = new ArrayList<>();
+        long size = 0;
+        try {
+            byte[] chunk = first;
+            while (true) {
+                size += chunk.length;
+                parts.add(partExecutor.submit(uploadPart(key, uploadId, parts.size() + 1, chunk)));
+                if (anyFailed(parts)) {
+                    awaitAll(parts);
+                }
+
+                acquire();
+                try {
+                    chunk = in.readNBytes(partSize);
+                } catch (IOException | RuntimeException e) {
+                    bufferPermits.release();
+                    throw e;
+                }
+                if (chunk.length == 0) {
+                    bufferPermits.release();
+                    break;
+                }
+            }
+
+            List<CompletedPart> completed = awaitAll(parts);
+            s3Client.completeMultipartUpload(request -> request
+                    .bucket(bucket)
+                    .key(key)
+                    .uploadId(uploadId)
+                    .multipartUpload(CompletedMultipartUpload.builder().parts(completed).build()));
+            log.debug("Uploaded {} to S3 in {} parts ({} bytes)", key, completed.size(), size);
+            return new StoredObject(urlPrefix + key, size, ContentDigest.hex(digest));
+        } catch (IOException | RuntimeException e) {
+            // Let in-flight parts finish so their buffers are released before aborting
+            awaitQuietly(parts);
+            abort(key, uploadId);
+            throw e;
+        }
+    }
+
+    @Override
+    public void delete(String url) {
+        if (url.startsWith(urlPrefix)) {
+            s3Client.deleteObject(request -> request.bucket(bucket).key(url.substring(urlPrefix.length())));
+        }
+    }
+
+    /**
+     * Wait for parts still being uploaded; called by Spring on shutdown
+     */
+    public void close() {
+        partExecutor.close();
+    }
+
+    /**
+     * Send one part and give its buffer permit back once the chunk is no longer needed
+     */
+    private Callable<CompletedPart> uploadPart(String key, String uploadId, int partNumber, byte[] chunk) {
+        return () -> {
+            try {
+                String eTag = s3Client.uploadPart(UploadPartRequest.builder()
+                        .bucket(bucket)
+                        .key(key)
+                        .uploadId(uploadId)
+                        .partNumber(partNumber)
+                        .build(), RequestBody.fromBytes(chunk)).eTag();
+                return CompletedPart.builder().partNumber(partNumber).eTag(eTag).build();
+            } finally {
+                bufferPermits.release();
+            }
+        };
+    }
+
+    private void acquire() throws InterruptedIOException {
+        try {
+            bufferPermits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for an upload buffer");
+        }
+    }
+
+    private static boolean anyFailed(List<Future<CompletedPart>> parts) {
+        return parts.stream().anyMatch(part -> part.state() == Future.State.FAILED);
+    }
+
+    private static List<CompletedPart> awaitAll(List<Future<CompletedPart>> parts) throws IOException {
+        List<CompletedPart> completed = new ArrayList<>(parts.size());
+        for (Future<CompletedPart> part : parts) {
+            try {
+                completed.add(part.get());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted while uploading parts");
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof RuntimeException runtime) {
+                    throw runtime;
+                }
+                throw new IOException("Failed to upload part", e.getCause());
+            }
+        }
+        return completed;
+    }
+
+    private static void awaitQuietly(List<Future<CompletedPart>> parts) {
+        for (Future<CompletedPart> part : parts) {
+            try {
+                part.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (ExecutionException e) {
+                // Already reported through the failure being handled
+            }
+        }
+    }
+
+    private void abort(String key, String uploadId) {
+        try {
+            s3Client.abortMultipartUpload(request -> request.bucket(bucket).key(key).uploadId(uploadId));
+        } catch (RuntimeException e) {
+            log.warn("Failed to abort multipart upload {} of {}", uploadId, key, e);
+        }
+    }
+}
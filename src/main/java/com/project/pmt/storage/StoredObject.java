@@ -0,0 +1,7 @@
+package com.project.pmt.storage;
+
+/**
+ * Location, byte count and hex SHA-256 of stored attachment content
+ */
+public record StoredObject(String url, long size, String sha256) {
+}
@@ -0,0 +1,86 @@
+package com.project.pmt.util;
+
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.RecoverableDataAccessException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.transaction.CannotCreateTransactionException;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+/**
+ * Writes batches so that one bad row cannot take the rest of its batch down with it.
+ * When a write fails because of its content the batch is halved until the rows that fail on
+ * their own are isolated; only those are rejected. Failures that say nothing about the rows
+ * (lost connection, timeouts, deadlocks) retry the same rows with a growing pause instead, and
+ * reject them only once all attempts are used up. Rows that were written are never retried.
+ */
+public class BatchSplitter {
+
+    private final int maxAttempts;
+    private final Duration backoff;
+
+    public BatchSplitter(int maxAttempts, Duration backoff) {
+        this.maxAttempts = Math.max(maxAttempts, 1);
+        this.backoff = backoff;
+    }
+
+    /**
+     * @return Number of rows written
+     */
+    public <T> int write(List<T> batch, Consumer<List<T>> writer, BiConsumer<T, RuntimeException> onRejected) {
+        if (batch.isEmpty()) {
+            return 0;
+        }
+        for (int attempt = 1; ; attempt++) {
+            try {
+                writer.accept(batch);
+                return batch.size();
+            } catch (RuntimeException e) {
+                if (!isTransient(e)) {
+                    return split(batch, writer, onRejected, e);
+                }
+                if (attempt >= maxAttempts || !pause(attempt)) {
+                    batch.forEach(row -> onRejected.accept(row, e));
+                    return 0;
+                }
+            }
+        }
+    }
+
+    private <T> int split(List<T> batch, Consumer<List<T>> writer, BiConsumer<T, RuntimeException> onRejected,
+                          RuntimeException failure) {
+        if (batch.size() == 1) {
+            onRejected.accept(batch.get(0), failure);
+            return 0;
+        }
+        int middle = batch.size() / 2;
+        return write(batch.subList(0, middle), writer, onRejected)
+                + write(batch.subList(middle, batch.size()), writer, onRejected);
+    }
+
+    /**
+     * @return False when interrupted, so shutdown is not held up by retries
+     */
+    private boolean pause(int attempt) {
+        try {
+            Thread.sleep(backoff.multipliedBy(attempt));
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /**
+     * Whether the failure is about the database rather than the rows, so the same rows may succeed later
+     */
+    public static boolean isTransient(RuntimeException e) {
+        return e instanceof TransientDataAccessException
+                || e instanceof RecoverableDataAccessException
+                || e instanceof DataAccessResourceFailureException
+                || e instanceof CannotCreateTransactionException;
+    }
+}
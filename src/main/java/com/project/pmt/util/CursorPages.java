@@ -0,0 +1,45 @@
+package com.project.pmt.util;
+
+import com.project.pmt.dto.response.CursorPageResponse;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Builds keyset pages from a query that fetched one row more than the page size,
+ * so whether another page exists is known without counting
+ */
+public final class CursorPages {
+
+    public static final int MAX_PAGE_SIZE = 100;
+
+    private CursorPages() {
+    }
+
+    public static int clampSize(int size) {
+        return Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+    }
+
+    /**
+     * @param rows Up to size + 1 rows in listing order
+     * @param cursorOf Cursor pointing just past a row
+     * @param mapper Converts the rows of the page to response objects
+     * @param totalElements Exact total, or null when not requested
+     */
+    public static <E, T> CursorPageResponse<T> of(
+            List<E> rows,
+            int size,
+            Function<E, SeekCursor> cursorOf,
+            Function<List<E>, List<T>> mapper,
+            Long totalElements) {
+        boolean hasNext = rows.size() > size;
+        List<E> page = hasNext ? rows.subList(0, size) : rows;
+        return CursorPageResponse.<T>builder()
+                .content(mapper.apply(page))
+                .size(page.size())
+                .hasNext(hasNext)
+                .nextCursor(hasNext ? cursorOf.apply(page.get(page.size() - 1)).encode() : null)
+                .totalElements(totalElements)
+                .build();
+    }
+}
@@ -0,0 +1,101 @@
+package com.project.pmt.util;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Lexicographic board ranks.
+ * A rank is a base-36 string ([0-9a-z]) compared byte by byte, so a new rank can always be
+ * generated between two neighbours without renumbering anything else in the column.
+ * Generated ranks never end in '0', which guarantees there is always room before them.
+ */
+public final class LexoRank {
+
+    private static final String DIGITS = "0123456789abcdefghijklmnopqrstuvwxyz";
+    private static final int BASE = DIGITS.length();
+
+    private LexoRank() {
+    }
+
+    /**
+     * Rank strictly between two neighbours
+     * @param previous Rank of the card above, or null for the top of the column
+     * @param next Rank of the card below, or null for the bottom of the column
+     * @return New rank with previous &lt; rank &lt; next
+     */
+    public static String between(String previous, String next) {
+        if (previous != null && next != null && previous.compareTo(next) >= 0) {
+            throw new IllegalArgumentException("Previous rank must sort before next rank: " + previous + " / " + next);
+        }
+
+        StringBuilder rank = new StringBuilder();
+        boolean upperBounded = next != null;
+        for (int i = 0; ; i++) {
+            int low = previous != null && i < previous.length() ? digit(previous.charAt(i)) : 0;
+            int high = upperBounded ? (i < next.length() ? digit(next.charAt(i)) : 0) : BASE;
+
+            if (low == high) {
+                rank.append(DIGITS.charAt(low));
+                continue;
+            }
+
+            int mid = (low + high) / 2;
+            if (mid > low) {
+                return rank.append(DIGITS.charAt(mid)).toString();
+            }
+
+            // Neighbouring digits: keep the lower one and search below an open upper bound
+            rank.append(DIGITS.charAt(low));
+            upperBounded = false;
+        }
+    }
+
+    /**
+     * Rank after the last card of a column
+     */
+    public static String after(String last) {
+        return between(last, null);
+    }
+
+    /**
+     * Evenly spaced ranks for a whole column, used when rebalancing
+     * @param count Number of cards in the column
+     * @return Ascending ranks, all of the same minimal length before trailing zeros are dropped
+     */
+    public static List<String> evenlySpaced(int count) {
+        int width = 1;
+        long capacity = BASE;
+        while (capacity <= count * 4L) {
+            width++;
+            capacity *= BASE;
+        }
+
+        long step = capacity / (count + 1L);
+        List<String> ranks = new ArrayList<>(count);
+        for (int i = 1; i <= count; i++) {
+            ranks.add(encode(step * i, width));
+        }
+        return ranks;
+    }
+
+    private static String encode(long value, int width) {
+        char[] chars = new char[width];
+        for (int i = width - 1; i >= 0; i--) {
+            chars[i] = DIGITS.charAt((int) (value % BASE));
+            value /= BASE;
+        }
+        int length = width;
+        while (length > 1 && chars[length - 1] == '0') {
+            length--;
+        }
+        return new String(chars, 0, length);
+    }
+
+    private static int digit(char c) {
+        int digit = DIGITS.indexOf(c);
+        if (digit < 0) {
+            throw new IllegalArgumentException("Invalid rank character: " + c);
+        }
+        return digit;
+    }
+}
@@ -0,0 +1,47 @@
+package com.project.pmt.util;
+
+import com.project.pmt.exceptions.BadRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * Position after the last row of a keyset page: the sort key of that row and its id as tie-breaker.
+ * Listings ordered by id alone leave the sort key empty. Clients receive it as an opaque
+ * URL-safe token and send it back unchanged to fetch the next page.
+ */
+public record SeekCursor(LocalDateTime sortKey, long id) {
+
+    private static final String VERSION = "v1";
+    private static final String NO_SORT_KEY = "-";
+
+    public static SeekCursor ofId(long id) {
+        return new SeekCursor(null, id);
+    }
+
+    public String encode() {
+        String raw = String.join("|", VERSION, sortKey != null ? sortKey.toString() : NO_SORT_KEY, Long.toString(id));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @return The decoded cursor, or null for a missing token (first page)
+     * @throws BadRequestException if the token was not produced by {@link #encode()}
+     */
+    public static SeekCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8).split("\\|");
+            if (parts.length != 3 || !VERSION.equals(parts[0])) {
+                throw new IllegalArgumentException("Unsupported cursor");
+            }
+            LocalDateTime sortKey = NO_SORT_KEY.equals(parts[1]) ? null : LocalDateTime.parse(parts[1]);
+            return new SeekCursor(sortKey, Long.parseLong(parts[2]));
+        } catch (RuntimeException e) {
+            throw new BadRequestException("Invalid page cursor");
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.project.pmt.cache;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LocalUnreadCountStoreTest {
+
+    private final LocalUnreadCountStore store = new LocalUnreadCountStore(100, Duration.ofMinutes(10));
+
+    @Test
+    void storesRebuildWhenNothingChangedWhileCounting() {
+        long generation = store.generation(1L);
+
+        store.putIfUnchanged(1L, 4, generation);
+
+        assertThat(store.get(1L)).isEqualTo(4L);
+    }
+
+    @Test
+    void dropsRebuildWhenIncrementArrivedWhileCounting() {
+        long generation = store.generation(1L);
+        store.increment(1L, 1);
+
+        store.putIfUnchanged(1L, 4, generation);
+
+        assertThat(store.get(1L)).isNull();
+    }
+
+    @Test
+    void dropsRebuildWhenEvictedWhileCounting() {
+        long generation = store.generation(1L);
+        store.evict(1L);
+
+        store.putIfUnchanged(1L, 4, generation);
+
+        assertThat(store.get(1L)).isNull();
+    }
+
+    @Test
+    void neverOverwritesCounterStoredByAnotherRebuild() {
+        long first = store.generation(1L);
+        long second = store.generation(1L);
+        store.putIfUnchanged(1L, 4, first);
+
+        store.putIfUnchanged(1L, 9, second);
+
+        assertThat(store.get(1L)).isEqualTo(4L);
+    }
+
+    @Test
+    void adjustsCachedCounterWithoutGoingBelowZero() {
+        store.putIfUnchanged(1L, 1, store.generation(1L));
+
+        store.increment(1L, -1);
+        store.increment(1L, -1);
+
+        assertThat(store.get(1L)).isZero();
+    }
+}
@@ -0,0 +1,118 @@
+package com.project.pmt.paging;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class PageCounterTest {
+
+    private final PageCounter pageCounter = new PageCounter(mock(JdbcTemplate.class), new ObjectMapper(),
+            new MockEnvironment(), new SimpleMeterRegistry(), Duration.ofMinutes(1), 100);
+
+    private final AtomicInteger counts = new AtomicInteger();
+
+    @Test
+    void lastPageTotalIsKnownWithoutCounting() {
+        Page<Integer> page = pageCounter.toPage(slice(2, 10, 4, false), CountStrategy.EXACT, countOf(999));
+
+        assertThat(page.getTotalElements()).isEqualTo(24);
+        assertThat(page.getTotalPages()).isEqualTo(3);
+        assertThat(page.isLast()).isTrue();
+        assertThat(counts).hasValue(0);
+    }
+
+    @Test
+    void fullLastPageTotalIsKnownWithoutCounting() {
+        Page<Integer> page = pageCounter.toPage(slice(1, 10, 10, false), CountStrategy.EXACT, countOf(999));
+
+        assertThat(page.getTotalElements()).isEqualTo(20);
+        assertThat(page.getTotalPages()).isEqualTo(2);
+        assertThat(counts).hasValue(0);
+    }
+
+    @Test
+    void emptyFirstPageHasNoRows() {
+        Page<Integer> page = pageCounter.toPage(slice(0, 10, 0, false), CountStrategy.EXACT, countOf(999));
+
+        assertThat(page.getTotalElements()).isZero();
+        assertThat(counts).hasValue(0);
+    }
+
+    @Test
+    void pagePastTheEndCountsInsteadOfAssumingRowsBeforeIt() {
+        Page<Integer> page = pageCounter.toPage(slice(5, 10, 0, false), CountStrategy.EXACT, countOf(24));
+
+        assertThat(page.getTotalElements()).isEqualTo(24);
+        assertThat(page.getTotalPages()).isEqualTo(3);
+        assertThat(counts).hasValue(1);
+    }
+
+    @Test
+    void unpagedSliceTotalIsItsSize() {
+        SliceImpl<Integer> slice = new SliceImpl<>(List.of(1, 2, 3), Pageable.unpaged(), false);
+
+        assertThat(pageCounter.toPage(slice, CountStrategy.EXACT, countOf(999)).getTotalElements()).isEqualTo(3);
+        assertThat(counts).hasValue(0);
+    }
+
+    @Test
+    void pageWithMoreRowsCountsExactly() {
+        Page<Integer> page = pageCounter.toPage(slice(1, 10, 10, true), CountStrategy.EXACT, countOf(57));
+
+        assertThat(page.getTotalElements()).isEqualTo(57);
+        assertThat(counts).hasValue(1);
+    }
+
+    @Test
+    void staleTotalIsRaisedPastRowsAlreadySeen() {
+        Page<Integer> page = pageCounter.toPage(slice(3, 10, 10, true), CountStrategy.EXACT, countOf(12));
+
+        assertThat(page.getTotalElements()).isEqualTo(41);
+        assertThat(page.hasNext()).isTrue();
+    }
+
+    @Test
+    void cachedTotalIsCountedOncePerSignature() {
+        pageCounter.toPage(slice(0, 10, 10, true), CountStrategy.CACHED, countOf(57));
+        Page<Integer> page = pageCounter.toPage(slice(1, 10, 10, true), CountStrategy.CACHED, countOf(57));
+
+        assertThat(page.getTotalElements()).isEqualTo(57);
+        assertThat(counts).hasValue(1);
+    }
+
+    @Test
+    void estimateWithoutSqlFallsBackToCachedCount() {
+        Page<Integer> page = pageCounter.toPage(slice(0, 10, 10, true), CountStrategy.ESTIMATED, countOf(57));
+
+        assertThat(page.getTotalElements()).isEqualTo(57);
+        assertThat(counts).hasValue(1);
+    }
+
+    private static SliceImpl<Integer> slice(int page, int size, int elements, boolean hasNext) {
+        List<Integer> content = elements == 0 ? Collections.emptyList()
+                : IntStream.range(page * size, page * size + elements).boxed().toList();
+        return new SliceImpl<>(content, PageRequest.of(page, size), hasNext);
+    }
+
+    private CountQuery countOf(long total) {
+        return CountQuery.of("issues", () -> {
+            counts.incrementAndGet();
+            return total;
+        });
+    }
+}
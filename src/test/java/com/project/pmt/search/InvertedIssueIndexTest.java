@@ -0,0 +1,114 @@
+package com.project.pmt.search;
+
+import com.project.pmt.enums.IssueStatus;
+import com.project.pmt.enums.Priority;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class InvertedIssueIndexTest {
+
+    private final InvertedIssueIndex index = new InvertedIssueIndex();
+
+    @Test
+    void tokenizeLowercasesAndSplitsOnNonAlphanumerics() {
+        assertThat(InvertedIssueIndex.tokenize("PMT-42: Löschen failed, retry_2x!"))
+                .containsExactly("pmt", "42", "löschen", "failed", "retry", "2x");
+    }
+
+    @Test
+    void tokenizeTruncatesLongTermsAndIgnoresBlankText() {
+        assertThat(InvertedIssueIndex.tokenize("a".repeat(100))).containsExactly("a".repeat(64));
+        assertThat(InvertedIssueIndex.tokenize("  ")).isEmpty();
+        assertThat(InvertedIssueIndex.tokenize(null)).isEmpty();
+    }
+
+    @Test
+    void matchesEveryWordAsPrefix() {
+        index.index(document(1, 10L, "Deployment fails on staging", List.of()));
+        index.index(document(2, 10L, "Deployment guide", List.of()));
+        index.index(document(3, 10L, "Login fails", List.of()));
+
+        assertThat(index.search("depl fail", null).toArray()).containsExactly(1);
+        assertThat(index.search("depl", null).toArray()).containsExactly(1, 2);
+        assertThat(index.search("deplx", null).isEmpty()).isTrue();
+    }
+
+    @Test
+    void findsIssueKeyAndLabels() {
+        index.index(document(1, 10L, "Crash", List.of("backend")));
+
+        assertThat(index.search("pmt-1", null).toArray()).containsExactly(1);
+        assertThat(index.search("back", null).toArray()).containsExactly(1);
+    }
+
+    @Test
+    void filtersByFacets() {
+        index.index(document(1, 10L, "Crash", List.of()));
+        index.index(document(2, 20L, "Crash", List.of()));
+
+        IssueSearchFilter project = new IssueSearchFilter(20L, null, null, null, null, null);
+        IssueSearchFilter unknownProject = new IssueSearchFilter(30L, null, null, null, null, null);
+        IssueSearchFilter status = new IssueSearchFilter(null, null, null, IssueStatus.DONE, null, null);
+
+        assertThat(index.search("crash", project).toArray()).containsExactly(2);
+        assertThat(index.search("crash", unknownProject).isEmpty()).isTrue();
+        assertThat(index.search("crash", status).isEmpty()).isTrue();
+        assertThat(index.search("", project).toArray()).containsExactly(2);
+    }
+
+    @Test
+    void reindexReplacesAndRemoveDropsTermsAndFacets() {
+        index.index(document(1, 10L, "Old title", List.of()));
+        index.index(document(1, 20L, "New title", List.of()));
+
+        assertThat(index.search("old", null).isEmpty()).isTrue();
+        assertThat(index.idsInProject(10L)).isEmpty();
+        assertThat(index.idsInProject(20L)).containsExactly(1L);
+
+        index.remove(1);
+
+        assertThat(index.size()).isZero();
+        assertThat(index.search("title", null).isEmpty()).isTrue();
+        assertThat(index.idsInProject(20L)).isEmpty();
+    }
+
+    @Test
+    void snapshotRoundTripKeepsTermsAndFacets() throws IOException {
+        index.index(document(1, 10L, "Deployment fails", List.of("ops")));
+        index.index(new IssueDocument(2, 20L, null, null, null, null, null, "PMT-2", "Deployment guide", null, List.of()));
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        index.writeTo(new DataOutputStream(bytes));
+        InvertedIssueIndex restored = InvertedIssueIndex.readFrom(
+                new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())));
+
+        assertThat(restored.size()).isEqualTo(2);
+        assertThat(restored.search("depl", null).toArray()).containsExactly(1, 2);
+        assertThat(restored.search("ops", new IssueSearchFilter(10L, 5L, 6L, IssueStatus.TODO, Priority.HIGH, 7L))
+                .toArray()).containsExactly(1);
+
+        restored.index(document(1, 10L, "Renamed", List.of()));
+        assertThat(restored.search("ops", null).isEmpty()).isTrue();
+    }
+
+    @Test
+    void rejectsSomethingThatIsNotASnapshot() {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(new byte[]{1, 2, 3, 4, 5, 6, 7, 8}));
+
+        assertThatThrownBy(() -> InvertedIssueIndex.readFrom(in)).isInstanceOf(IOException.class);
+    }
+
+    private static IssueDocument document(long id, Long projectId, String title, List<String> labels) {
+        return new IssueDocument(id, projectId, 5L, 6L, 7L, IssueStatus.TODO, Priority.HIGH,
+                "PMT-" + id, title, null, labels);
+    }
+}
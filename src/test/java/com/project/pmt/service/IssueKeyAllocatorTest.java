@@ -0,0 +1,82 @@
+package com.project.pmt.service;
+
+import com.project.pmt.entity.Project;
+import com.project.pmt.repository.IssueRepository;
+import com.project.pmt.repository.ProjectIssueSequenceRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class IssueKeyAllocatorTest {
+
+    private static final long BLOCK_SIZE = 3;
+    private static final long SLOW_PROJECT_ID = 1L;
+
+    private final ProjectIssueSequenceRepository sequenceRepository = mock(ProjectIssueSequenceRepository.class);
+    private final Map<Long, AtomicLong> sequences = new ConcurrentHashMap<>();
+    private final CountDownLatch slowReservationStarted = new CountDownLatch(1);
+    private final CountDownLatch releaseSlowReservation = new CountDownLatch(1);
+
+    private final IssueKeyAllocator allocator = new IssueKeyAllocator(sequenceRepository, mock(IssueRepository.class),
+            mock(PlatformTransactionManager.class));
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(allocator, "blockSize", BLOCK_SIZE);
+        when(sequenceRepository.existsById(anyLong())).thenReturn(true);
+        when(sequenceRepository.reserveBlock(anyLong(), anyLong())).thenAnswer(invocation -> {
+            Long projectId = invocation.getArgument(0);
+            if (projectId == SLOW_PROJECT_ID) {
+                slowReservationStarted.countDown();
+                releaseSlowReservation.await(5, TimeUnit.SECONDS);
+            }
+            return sequences.computeIfAbsent(projectId, id -> new AtomicLong()).addAndGet(BLOCK_SIZE);
+        });
+    }
+
+    @Test
+    void numbersAreConsecutiveAcrossBlocks() {
+        Project project = project(2L, "PMT");
+
+        assertThat(allocator.nextIssueKey(project)).isEqualTo("PMT-1");
+        for (int i = 2; i <= 7; i++) {
+            assertThat(allocator.nextIssueNumber(project)).isEqualTo(i);
+        }
+    }
+
+    @Test
+    void slowRefillOfOneProjectDoesNotBlockOthers() throws Exception {
+        CompletableFuture<Long> slow = CompletableFuture.supplyAsync(
+                () -> allocator.nextIssueNumber(project(SLOW_PROJECT_ID, "SLOW")));
+        assertThat(slowReservationStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+        try {
+            long other = CompletableFuture.supplyAsync(() -> allocator.nextIssueNumber(project(2L, "FAST")))
+                    .get(2, TimeUnit.SECONDS);
+            assertThat(other).isEqualTo(1);
+        } finally {
+            releaseSlowReservation.countDown();
+        }
+        assertThat(slow.get(5, TimeUnit.SECONDS)).isEqualTo(1);
+    }
+
+    private static Project project(Long id, String key) {
+        Project project = new Project();
+        project.setId(id);
+        project.setKey(key);
+        return project;
+    }
+}
@@ -0,0 +1,112 @@
+package com.project.pmt.service;
+
+import com.project.pmt.cache.UnreadCountStore;
+import com.project.pmt.enums.NotificationType;
+import com.project.pmt.event.NotificationEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class NotificationBatchWriterTest {
+
+    private static final long DELETED_ISSUE_ID = 13L;
+
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private final UnreadCountStore unreadCountStore = mock(UnreadCountStore.class);
+    private final NotificationStreamService notificationStreamService = mock(NotificationStreamService.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final List<Long> storedIssueIds = new ArrayList<>();
+
+    private NotificationBatchWriter writer;
+
+    @BeforeEach
+    void setUp() {
+        AtomicLong nextId = new AtomicLong(1);
+        // Each row binds 7 values; the 5th is the issue id. Rows for the deleted issue violate the FK.
+        when(jdbcTemplate.queryForList(anyString(), eq(Long.class), any(Object[].class))).thenAnswer(invocation -> {
+            Object[] args = (Object[]) invocation.getRawArguments()[2];
+            List<Long> issueIds = new ArrayList<>();
+            for (int i = 4; i < args.length; i += 7) {
+                issueIds.add((Long) args[i]);
+            }
+            if (issueIds.contains(DELETED_ISSUE_ID)) {
+                throw new DataIntegrityViolationException("violates foreign key constraint on issue_id");
+            }
+            storedIssueIds.addAll(issueIds);
+            return LongStream.range(0, issueIds.size()).mapToObj(i -> nextId.getAndIncrement()).toList();
+        });
+
+        writer = new NotificationBatchWriter(jdbcTemplate, meterRegistry, unreadCountStore, notificationStreamService);
+        ReflectionTestUtils.setField(writer, "queueCapacity", 100);
+        ReflectionTestUtils.setField(writer, "batchSize", 200);
+        ReflectionTestUtils.setField(writer, "flushIntervalMs", 50L);
+        ReflectionTestUtils.setField(writer, "maxAttempts", 3);
+        ReflectionTestUtils.setField(writer, "retryBackoffMs", 0L);
+        writer.start();
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        writer.stop();
+    }
+
+    @Test
+    void oneBadRowDropsOnlyThatNotification() {
+        List<NotificationEvent> batch = new ArrayList<>();
+        for (long issueId = 1; issueId <= 20; issueId++) {
+            batch.add(event(issueId % 2 == 0 ? 7L : 8L, issueId));
+        }
+
+        writer.write(batch);
+
+        assertThat(storedIssueIds).hasSize(19).doesNotContain(DELETED_ISSUE_ID);
+        assertThat(meterRegistry.get("pmt.notifications.failed").counter().count()).isEqualTo(1);
+        assertThat(incrementsFor(7L)).isEqualTo(10);
+        assertThat(incrementsFor(8L)).isEqualTo(9);
+        verify(notificationStreamService, atLeastOnce()).publish(eq(7L), anyList());
+    }
+
+    @Test
+    void batchWithoutBadRowsIsOneInsert() {
+        writer.write(List.of(event(7L, 1L), event(7L, 2L), event(8L, 3L)));
+
+        assertThat(storedIssueIds).containsExactly(1L, 2L, 3L);
+        assertThat(meterRegistry.get("pmt.notifications.failed").counter().count()).isZero();
+        verify(unreadCountStore).increment(7L, 2L);
+        verify(unreadCountStore).increment(8L, 1L);
+        verify(unreadCountStore, never()).increment(eq(9L), any(Long.class));
+    }
+
+    private long incrementsFor(Long userId) {
+        ArgumentCaptor<Long> deltas = ArgumentCaptor.forClass(Long.class);
+        verify(unreadCountStore, atLeastOnce()).increment(eq(userId), deltas.capture());
+        return deltas.getAllValues().stream().mapToLong(Long::longValue).sum();
+    }
+
+    private static NotificationEvent event(Long userId, Long issueId) {
+        return new NotificationEvent(userId, NotificationType.ASSIGNMENT, "Issue " + issueId, "/issues/" + issueId,
+                issueId, LocalDateTime.of(2025, 1, 1, 12, 0));
+    }
+}
@@ -0,0 +1,104 @@
+package com.project.pmt.service;
+
+import com.project.pmt.dto.request.CreateProjectRequest;
+import com.project.pmt.dto.request.UpdateProjectRequest;
+import com.project.pmt.entity.Project;
+import com.project.pmt.entity.User;
+import com.project.pmt.mapper.ProjectMapper;
+import com.project.pmt.paging.PageCounter;
+import com.project.pmt.repository.ProjectRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ProjectServiceTest {
+
+    private final ProjectRepository projectRepository = mock(ProjectRepository.class);
+    private final UserService userService = mock(UserService.class);
+
+    private final ProjectService projectService = new ProjectService(projectRepository, userService,
+            mock(ProjectMapper.class), mock(PageCounter.class), mock(ProjectStatsService.class),
+            mock(ApplicationEventPublisher.class));
+
+    @BeforeEach
+    void setUp() {
+        // Worst case for identity-based sets: a distinct instance for every lookup of the same user
+        when(userService.getUserReference(anyLong())).thenAnswer(invocation -> user(invocation.getArgument(0)));
+        when(userService.getCurrentUserEntity()).thenReturn(user(9L));
+        when(projectRepository.save(any(Project.class))).thenAnswer(invocation -> invocation.getArgument(0));
+    }
+
+    @Test
+    void createProjectAddsLeadListedAsMemberOnce() {
+        CreateProjectRequest request = CreateProjectRequest.builder()
+                .name("Platform")
+                .key("plat")
+                .leadId(1L)
+                .memberIds(new LinkedHashSet<>(List.of(1L, 2L)))
+                .build();
+
+        projectService.createProject(request);
+
+        assertThat(memberIds(savedProject())).containsExactlyInAnyOrder(1L, 2L);
+    }
+
+    @Test
+    void createProjectWithoutLeadMakesCurrentUserLeadAndMember() {
+        CreateProjectRequest request = CreateProjectRequest.builder()
+                .name("Platform")
+                .key("plat")
+                .memberIds(Set.of(9L, 3L))
+                .build();
+
+        projectService.createProject(request);
+
+        Project project = savedProject();
+        assertThat(project.getLead().getId()).isEqualTo(9L);
+        assertThat(memberIds(project)).containsExactlyInAnyOrder(3L, 9L);
+    }
+
+    @Test
+    void updateProjectKeepsOneMembershipPerUser() {
+        Project project = new Project();
+        project.setId(5L);
+        project.setLead(user(1L));
+        project.setMembers(new HashSet<>(List.of(user(1L))));
+        when(projectRepository.findById(5L)).thenReturn(Optional.of(project));
+
+        projectService.updateProject(5L, UpdateProjectRequest.builder()
+                .memberIds(Set.of(1L, 4L))
+                .build());
+
+        assertThat(memberIds(savedProject())).containsExactlyInAnyOrder(1L, 4L);
+    }
+
+    private Project savedProject() {
+        ArgumentCaptor<Project> saved = ArgumentCaptor.forClass(Project.class);
+        verify(projectRepository).save(saved.capture());
+        return saved.getValue();
+    }
+
+    private static List<Long> memberIds(Project project) {
+        return project.getMembers().stream().map(User::getId).toList();
+    }
+
+    private static User user(Long id) {
+        User user = new User();
+        user.setId(id);
+        return user;
+    }
+}
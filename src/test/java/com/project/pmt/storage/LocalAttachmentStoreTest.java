@@ -0,0 +1,78 @@
+package com.project.pmt.storage;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LocalAttachmentStoreTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void storesReadsBackAndDeletes() throws IOException {
+        LocalAttachmentStore store = new LocalAttachmentStore(directory.resolve("uploads"));
+        byte[] content = "hello attachments".getBytes(StandardCharsets.UTF_8);
+
+        StoredObject stored = store.store("a.txt", "text/plain", new ByteArrayInputStream(content));
+
+        assertThat(stored.url()).isEqualTo("/uploads/a.txt");
+        assertThat(stored.size()).isEqualTo(content.length);
+        assertThat(stored.sha256()).isEqualTo("42d3a7895ec8c25e9cda3e1ea5377a512db52029fadc49d34e70c57a1a54ebaf");
+        assertThat(Files.readAllBytes(directory.resolve("uploads/a.txt"))).isEqualTo(content);
+        assertThat(filesIn(directory.resolve("uploads"))).containsExactly("a.txt");
+
+        store.delete(stored.url());
+
+        assertThat(filesIn(directory.resolve("uploads"))).isEmpty();
+    }
+
+    @Test
+    void failedUploadLeavesNoFileBehind() throws IOException {
+        LocalAttachmentStore store = new LocalAttachmentStore(directory);
+        InputStream content = new InputStream() {
+            private int read;
+
+            @Override
+            public int read() throws IOException {
+                if (read++ > 10_000) {
+                    throw new IOException("Client went away");
+                }
+                return 1;
+            }
+        };
+
+        assertThatThrownBy(() -> store.store("b.bin", "application/octet-stream", content))
+                .isInstanceOf(IOException.class);
+
+        assertThat(filesIn(directory)).isEmpty();
+    }
+
+    @Test
+    void deleteIgnoresForeignAndMissingUrls() throws IOException {
+        LocalAttachmentStore store = new LocalAttachmentStore(directory);
+        store.store("c.txt", "text/plain", new ByteArrayInputStream(new byte[]{1}));
+
+        store.delete("https://cdn.example.com/c.txt");
+        store.delete("/uploads/missing.txt");
+
+        assertThat(filesIn(directory)).containsExactly("c.txt");
+    }
+
+    private static List<String> filesIn(Path directory) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.map(file -> file.getFileName().toString()).toList();
+        }
+    }
+}
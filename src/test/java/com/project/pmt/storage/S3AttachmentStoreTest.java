@@ -0,0 +1,240 @@
+package com.project.pmt.storage;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectResponse;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.PutObjectResponse;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartResponse;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class S3AttachmentStoreTest {
+
+    private static final int PART_SIZE = 5 * 1024 * 1024;
+    private static final int MAX_BUFFERED_PARTS = 2;
+
+    private final FakeS3Client s3Client = new FakeS3Client();
+    private final S3AttachmentStore store =
+            new S3AttachmentStore(s3Client, "attachments", "https://cdn.example.com/", PART_SIZE, MAX_BUFFERED_PARTS);
+
+    @AfterEach
+    void tearDown() {
+        store.close();
+    }
+
+    @Test
+    void smallContentIsOnePut() throws IOException {
+        byte[] content = randomBytes(1234);
+
+        StoredObject stored = store.store("issues/1/a.txt", "text/plain", new ByteArrayInputStream(content));
+
+        assertThat(stored.url()).isEqualTo("https://cdn.example.com/issues/1/a.txt");
+        assertThat(stored.size()).isEqualTo(content.length);
+        assertThat(stored.sha256()).isEqualTo(sha256(content));
+        assertThat(s3Client.objects.get("issues/1/a.txt")).isEqualTo(content);
+        assertThat(s3Client.createdUploads).hasValue(0);
+        assertThat(availablePermits()).isEqualTo(MAX_BUFFERED_PARTS);
+    }
+
+    @Test
+    void contentOfExactlyOnePartIsOneMultipartPart() throws IOException {
+        byte[] content = randomBytes(PART_SIZE);
+
+        StoredObject stored = store.store("exact.bin", "application/octet-stream", new ByteArrayInputStream(content));
+
+        assertThat(stored.size()).isEqualTo(PART_SIZE);
+        assertThat(stored.sha256()).isEqualTo(sha256(content));
+        assertThat(s3Client.completedPartCounts).containsEntry("exact.bin", 1);
+        assertThat(s3Client.objects.get("exact.bin")).isEqualTo(content);
+        assertThat(availablePermits()).isEqualTo(MAX_BUFFERED_PARTS);
+    }
+
+    @Test
+    void largeContentIsUploadedInOrderedParts() throws IOException {
+        byte[] content = randomBytes(PART_SIZE * 2 + PART_SIZE / 2);
+
+        StoredObject stored = store.store("large.bin", "application/octet-stream", new ByteArrayInputStream(content));
+
+        assertThat(stored.size()).isEqualTo(content.length);
+        assertThat(stored.sha256()).isEqualTo(sha256(content));
+        assertThat(s3Client.completedPartCounts).containsEntry("large.bin", 3);
+        assertThat(s3Client.objects.get("large.bin")).isEqualTo(content);
+        assertThat(s3Client.abortedUploads).hasValue(0);
+        assertThat(availablePermits()).isEqualTo(MAX_BUFFERED_PARTS);
+    }
+
+    @Test
+    void failedPartAbortsUploadAndReleasesBuffers() {
+        s3Client.failingPart = 2;
+        byte[] content = randomBytes(PART_SIZE * 3 + 10);
+
+        assertThatThrownBy(() -> store.store("broken.bin", "application/octet-stream", new ByteArrayInputStream(content)))
+                .isInstanceOf(SdkClientException.class);
+
+        assertThat(s3Client.abortedUploads).hasValue(1);
+        assertThat(s3Client.objects).doesNotContainKey("broken.bin");
+        assertThat(availablePermits()).isEqualTo(MAX_BUFFERED_PARTS);
+    }
+
+    @Test
+    void failedReadAbortsUploadAndReleasesBuffers() {
+        InputStream content = new InputStream() {
+            private int read;
+
+            @Override
+            public int read() throws IOException {
+                if (read++ > PART_SIZE + 100) {
+                    throw new IOException("Client went away");
+                }
+                return 7;
+            }
+        };
+
+        assertThatThrownBy(() -> store.store("cut.bin", "application/octet-stream", content))
+                .isInstanceOf(IOException.class);
+
+        assertThat(s3Client.abortedUploads).hasValue(1);
+        assertThat(s3Client.objects).doesNotContainKey("cut.bin");
+        assertThat(availablePermits()).isEqualTo(MAX_BUFFERED_PARTS);
+    }
+
+    @Test
+    void deleteOnlyTouchesOwnUrls() throws IOException {
+        store.store("gone.txt", "text/plain", new ByteArrayInputStream(randomBytes(10)));
+
+        store.delete("/uploads/gone.txt");
+        assertThat(s3Client.objects).containsKey("gone.txt");
+
+        store.delete("https://cdn.example.com/gone.txt");
+        assertThat(s3Client.objects).doesNotContainKey("gone.txt");
+    }
+
+    @Test
+    void rejectsPartsSmallerThanS3Allows() {
+        assertThatThrownBy(() -> new S3AttachmentStore(s3Client, "attachments", "/", PART_SIZE - 1, 2))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private int availablePermits() {
+        return ((Semaphore) ReflectionTestUtils.getField(store, "bufferPermits")).availablePermits();
+    }
+
+    private static byte[] randomBytes(int length) {
+        byte[] bytes = new byte[length];
+        new Random(length).nextBytes(bytes);
+        return bytes;
+    }
+
+    private static String sha256(byte[] content) {
+        var digest = ContentDigest.sha256();
+        digest.update(content);
+        return ContentDigest.hex(digest);
+    }
+
+    /**
+     * In-memory bucket implementing only the calls the store makes
+     */
+    private static class FakeS3Client implements S3Client {
+
+        final Map<String, byte[]> objects = new ConcurrentHashMap<>();
+        final Map<String, Integer> completedPartCounts = new ConcurrentHashMap<>();
+        final Map<String, Map<Integer, byte[]>> uploads = new ConcurrentHashMap<>();
+        final AtomicInteger createdUploads = new AtomicInteger();
+        final AtomicInteger abortedUploads = new AtomicInteger();
+        volatile int failingPart = -1;
+
+        @Override
+        public PutObjectResponse putObject(PutObjectRequest request, RequestBody body) {
+            objects.put(request.key(), bytesOf(body));
+            return PutObjectResponse.builder().eTag("put").build();
+        }
+
+        @Override
+        public CreateMultipartUploadResponse createMultipartUpload(CreateMultipartUploadRequest request) {
+            String uploadId = "upload-" + createdUploads.incrementAndGet();
+            uploads.put(uploadId, new ConcurrentHashMap<>());
+            return CreateMultipartUploadResponse.builder().uploadId(uploadId).build();
+        }
+
+        @Override
+        public UploadPartResponse uploadPart(UploadPartRequest request, RequestBody body) {
+            if (request.partNumber() == failingPart) {
+                throw SdkClientException.create("Connection reset");
+            }
+            uploads.get(request.uploadId()).put(request.partNumber(), bytesOf(body));
+            return UploadPartResponse.builder().eTag("etag-" + request.partNumber()).build();
+        }
+
+        @Override
+        public CompleteMultipartUploadResponse completeMultipartUpload(CompleteMultipartUploadRequest request) {
+            Map<Integer, byte[]> parts = new TreeMap<>(uploads.remove(request.uploadId()));
+            ByteArrayOutputStream object = new ByteArrayOutputStream();
+            int expected = 1;
+            for (CompletedPart part : request.multipartUpload().parts()) {
+                assertThat(part.partNumber()).isEqualTo(expected++);
+                assertThat(part.eTag()).isEqualTo("etag-" + part.partNumber());
+                object.writeBytes(parts.get(part.partNumber()));
+            }
+            objects.put(request.key(), object.toByteArray());
+            completedPartCounts.put(request.key(), request.multipartUpload().parts().size());
+            return CompleteMultipartUploadResponse.builder().build();
+        }
+
+        @Override
+        public AbortMultipartUploadResponse abortMultipartUpload(AbortMultipartUploadRequest request) {
+            uploads.remove(request.uploadId());
+            abortedUploads.incrementAndGet();
+            return AbortMultipartUploadResponse.builder().build();
+        }
+
+        @Override
+        public DeleteObjectResponse deleteObject(DeleteObjectRequest request) {
+            objects.remove(request.key());
+            return DeleteObjectResponse.builder().build();
+        }
+
+        @Override
+        public String serviceName() {
+            return "s3";
+        }
+
+        @Override
+        public void close() {
+        }
+
+        private static byte[] bytesOf(RequestBody body) {
+            try (InputStream in = body.contentStreamProvider().newStream()) {
+                return in.readAllBytes();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+}
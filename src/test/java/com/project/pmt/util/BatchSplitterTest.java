@@ -0,0 +1,98 @@
+package com.project.pmt.util;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.QueryTimeoutException;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BatchSplitterTest {
+
+    private final BatchSplitter splitter = new BatchSplitter(3, Duration.ZERO);
+
+    @Test
+    void writesWholeBatchWhenNothingFails() {
+        List<List<Integer>> calls = new ArrayList<>();
+
+        int written = splitter.write(List.of(1, 2, 3), calls::add, (row, e) -> {
+        });
+
+        assertThat(written).isEqualTo(3);
+        assertThat(calls).containsExactly(List.of(1, 2, 3));
+    }
+
+    @Test
+    void isolatesAndRejectsOnlyTheBadRow() {
+        List<Integer> stored = new ArrayList<>();
+        List<Integer> rejected = new ArrayList<>();
+        Consumer<List<Integer>> writer = rows -> {
+            if (rows.contains(5)) {
+                throw new DataIntegrityViolationException("fk");
+            }
+            stored.addAll(rows);
+        };
+
+        int written = splitter.write(List.of(1, 2, 3, 4, 5, 6, 7), writer, (row, e) -> rejected.add(row));
+
+        assertThat(written).isEqualTo(6);
+        assertThat(stored).containsExactlyInAnyOrder(1, 2, 3, 4, 6, 7);
+        assertThat(rejected).containsExactly(5);
+    }
+
+    @Test
+    void retriesTransientFailuresWithoutSplitting() {
+        AtomicInteger attempts = new AtomicInteger();
+        List<List<Integer>> calls = new ArrayList<>();
+        Consumer<List<Integer>> writer = rows -> {
+            calls.add(rows);
+            if (attempts.incrementAndGet() < 3) {
+                throw new QueryTimeoutException("timeout");
+            }
+        };
+
+        int written = splitter.write(List.of(1, 2, 3, 4), writer, (row, e) -> {
+        });
+
+        assertThat(written).isEqualTo(4);
+        assertThat(calls).hasSize(3).allSatisfy(rows -> assertThat(rows).containsExactly(1, 2, 3, 4));
+    }
+
+    @Test
+    void rejectsRowsOnceTransientAttemptsAreUsedUp() {
+        Map<Integer, RuntimeException> rejected = new HashMap<>();
+
+        int written = splitter.write(List.of(1, 2), rows -> {
+            throw new QueryTimeoutException("timeout");
+        }, rejected::put);
+
+        assertThat(written).isZero();
+        assertThat(rejected).containsOnlyKeys(1, 2);
+    }
+
+    @Test
+    void neverRewritesRowsThatWereStored() {
+        List<Integer> stored = new ArrayList<>();
+        Consumer<List<Integer>> writer = rows -> {
+            if (rows.contains(1) && rows.size() > 1) {
+                throw new DataIntegrityViolationException("bad");
+            }
+            if (rows.equals(List.of(1))) {
+                throw new DataIntegrityViolationException("bad");
+            }
+            stored.addAll(rows);
+        };
+
+        splitter.write(List.of(1, 2, 3, 4), writer, (row, e) -> {
+        });
+
+        assertThat(stored).containsExactlyInAnyOrder(2, 3, 4);
+    }
+}
@@ -0,0 +1,89 @@
+package com.project.pmt.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LexoRankTest {
+
+    // Default of board.rank.max-length, beyond which BoardRankRebalancer renumbers a column
+    private static final int MAX_LENGTH = 24;
+
+    @Test
+    void firstRankOfEmptyColumnIsSingleDigit() {
+        assertThat(LexoRank.between(null, null)).hasSize(1);
+    }
+
+    @Test
+    void rejectsEqualNeighbours() {
+        assertThatThrownBy(() -> LexoRank.between("i", "i"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void rejectsNeighboursInWrongOrder() {
+        assertThatThrownBy(() -> LexoRank.between("j", "i"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void rejectsCharactersOutsideTheAlphabet() {
+        assertThatThrownBy(() -> LexoRank.between("I", null))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void fitsBetweenAdjacentDigits() {
+        String rank = LexoRank.between("a", "b");
+
+        assertThat(rank).isGreaterThan("a").isLessThan("b");
+    }
+
+    @Test
+    void fitsBetweenRankAndItsShortestSuccessor() {
+        String rank = LexoRank.between("a", "a1");
+
+        assertThat(rank).isGreaterThan("a").isLessThan("a1").doesNotEndWith("0");
+    }
+
+    @Test
+    void afterSortsBehindLastRank() {
+        assertThat(LexoRank.after("zzz")).isGreaterThan("zzz");
+        assertThat(LexoRank.after(null)).isEqualTo(LexoRank.between(null, null));
+    }
+
+    @Test
+    void generatedRanksNeverEndInZero() {
+        String next = "1";
+        for (int i = 0; i < 200; i++) {
+            String rank = LexoRank.between(null, next);
+            assertThat(rank).isLessThan(next).doesNotEndWith("0");
+            next = rank;
+        }
+    }
+
+    @Test
+    void repeatedInsertsAtOneSpotGrowSlowly() {
+        String previous = "a";
+        String next = "b";
+        for (int i = 0; i < 100; i++) {
+            String rank = LexoRank.between(previous, next);
+            assertThat(rank).isGreaterThan(previous).isLessThan(next);
+            next = rank;
+        }
+
+        // About five halvings per base-36 digit, so a hundred inserts stay below the rebalance threshold
+        assertThat(next.length()).isLessThanOrEqualTo(MAX_LENGTH);
+    }
+
+    @Test
+    void evenlySpacedRanksAreShortAndAscending() {
+        List<String> ranks = LexoRank.evenlySpaced(100_000);
+
+        assertThat(ranks).hasSize(100_000).isSorted().doesNotHaveDuplicates();
+        assertThat(ranks).allSatisfy(rank -> assertThat(rank.length()).isLessThanOrEqualTo(4));
+    }
+}
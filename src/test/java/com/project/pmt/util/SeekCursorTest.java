@@ -0,0 +1,63 @@
+package com.project.pmt.util;
+
+import com.project.pmt.exceptions.BadRequestException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SeekCursorTest {
+
+    @Test
+    void roundTripsSortKeyAndId() {
+        SeekCursor cursor = new SeekCursor(LocalDateTime.of(2026, 3, 1, 12, 30, 15, 123_000_000), 42);
+
+        assertThat(SeekCursor.decode(cursor.encode())).isEqualTo(cursor);
+    }
+
+    @Test
+    void roundTripsIdOnlyCursor() {
+        SeekCursor cursor = SeekCursor.ofId(7);
+
+        assertThat(SeekCursor.decode(cursor.encode())).isEqualTo(cursor);
+    }
+
+    @Test
+    void encodesUrlSafeWithoutPadding() {
+        String token = new SeekCursor(LocalDateTime.of(2026, 3, 1, 12, 30), Long.MAX_VALUE).encode();
+
+        assertThat(token).matches("[A-Za-z0-9_-]+");
+    }
+
+    @Test
+    void missingTokenMeansFirstPage() {
+        assertThat(SeekCursor.decode(null)).isNull();
+        assertThat(SeekCursor.decode(" ")).isNull();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "not base64!",
+            "v1|-",
+            "v2|-|7",
+            "v1|-|7|8",
+            "v1|-|seven",
+            "v1|yesterday|7",
+            "v1|2026-03-01T12:30|"
+    })
+    void rejectsMalformedCursors(String raw) {
+        String token = raw.contains("|")
+                ? Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8))
+                : raw;
+
+        assertThatThrownBy(() -> SeekCursor.decode(token))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessage("Invalid page cursor");
+    }
+}
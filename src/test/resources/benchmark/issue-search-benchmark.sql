@@ -0,0 +1,166 @@
+-- Issue search benchmark: LIKE path vs. full-text path at 1M issues.
+--
+-- Builds a throwaway schema (search_bench) with the columns both search paths read, fills it with
+-- 1,000,000 issues over 200 projects plus 500,000 comments, installs the same search vector, GIN
+-- index and triggers as IssueSearchSchema, and runs EXPLAIN ANALYZE on the queries that
+-- IssueRepository.searchIssues (LIKE) and fullTextSearchIssueIds issue. Application tables are not
+-- touched; the schema is dropped at the start of each run.
+--
+--   psql -d pmt -f src/test/resources/benchmark/issue-search-benchmark.sql
+--
+-- Loading takes a few minutes; compare the "Execution Time" lines of each pair.
+
+\timing on
+
+DROP SCHEMA IF EXISTS search_bench CASCADE;
+CREATE SCHEMA search_bench;
+SET search_path = search_bench;
+
+CREATE TABLE words (n int PRIMARY KEY, word text NOT NULL);
+INSERT INTO words (n, word)
+SELECT row_number() OVER () - 1, w
+FROM unnest(string_to_array(
+    'deploy deployment failed failure login logout session token refresh cache timeout latency ' ||
+    'database index query migration schema backup restore replica primary connection pool ' ||
+    'board column sprint velocity burndown backlog epic story task bug crash exception stack ' ||
+    'trace null pointer memory leak heap garbage collector thread deadlock lock queue worker ' ||
+    'email notification webhook payload signature retry backoff upload attachment download ' ||
+    'search filter sort page cursor export import csv excel report dashboard chart metric ' ||
+    'alert monitor health probe kubernetes docker container image registry pipeline build ' ||
+    'test flaky coverage release version rollback hotfix patch security vulnerability audit ' ||
+    'permission role admin user profile avatar password reset oauth saml sso invite member ' ||
+    'project archive label priority status assignee reporter comment mention watcher link', ' ')) AS w;
+
+-- Deterministic pseudo-random text, so every run searches the same data
+CREATE FUNCTION random_text(word_count int, seed bigint, vocabulary int) RETURNS text LANGUAGE sql STABLE AS $$
+    SELECT string_agg(word, ' ' ORDER BY g)
+    FROM generate_series(1, word_count) g
+    JOIN search_bench.words ON words.n = abs(hashtextextended(seed || ':' || g, 0) % vocabulary)
+$$;
+
+CREATE TABLE issues (
+    id bigint PRIMARY KEY,
+    project_id bigint NOT NULL,
+    issue_key varchar(50) NOT NULL,
+    title varchar(255) NOT NULL,
+    description text,
+    status varchar(20) NOT NULL,
+    priority varchar(20) NOT NULL,
+    assignee_id bigint,
+    reporter_id bigint,
+    sprint_id bigint,
+    created_at timestamp NOT NULL,
+    search_vector tsvector
+);
+
+CREATE TABLE comments (
+    id bigint PRIMARY KEY,
+    issue_id bigint NOT NULL,
+    body text NOT NULL
+);
+
+INSERT INTO issues (id, project_id, issue_key, title, description, status, priority, assignee_id, reporter_id, created_at)
+SELECT g,
+       g % 200 + 1,
+       'P' || (g % 200 + 1) || '-' || (g / 200 + 1),
+       random_text(6, g, v.size),
+       random_text(40, g + 1000003, v.size),
+       (ARRAY['TODO', 'IN_PROGRESS', 'IN_REVIEW', 'DONE', 'BLOCKED'])[g % 5 + 1],
+       (ARRAY['LOW', 'MEDIUM', 'HIGH', 'CRITICAL'])[g % 4 + 1],
+       g % 500 + 1,
+       g % 300 + 1,
+       timestamp '2024-01-01' + (g || ' seconds')::interval
+FROM generate_series(1, 1000000) g, (SELECT count(*)::int AS size FROM words) v;
+
+INSERT INTO comments (id, issue_id, body)
+SELECT g, (g * 2) % 1000000 + 1, random_text(25, g + 2000003, v.size)
+FROM generate_series(1, 500000) g, (SELECT count(*)::int AS size FROM words) v;
+CREATE INDEX index_comment_issue ON comments (issue_id);
+
+-- Same vector, triggers and index as IssueSearchSchema
+CREATE FUNCTION issue_search_vector(p_issue_id bigint, p_issue_key text, p_title text, p_description text)
+RETURNS tsvector LANGUAGE sql STABLE AS $$
+    SELECT setweight(to_tsvector('simple', coalesce(p_issue_key, '')), 'A')
+        || setweight(to_tsvector('english', coalesce(p_title, '')), 'A')
+        || setweight(to_tsvector('english', coalesce(p_description, '')), 'B')
+        || setweight(to_tsvector('english', coalesce(
+               (SELECT string_agg(c.body, ' ') FROM search_bench.comments c WHERE c.issue_id = p_issue_id), '')), 'C')
+$$;
+
+UPDATE issues i SET search_vector = issue_search_vector(i.id, i.issue_key, i.title, i.description);
+
+CREATE FUNCTION issues_search_vector_trigger() RETURNS trigger LANGUAGE plpgsql AS $$
+BEGIN
+    NEW.search_vector := search_bench.issue_search_vector(NEW.id, NEW.issue_key, NEW.title, NEW.description);
+    RETURN NEW;
+END
+$$;
+
+CREATE TRIGGER issues_search_vector_update
+BEFORE UPDATE OF issue_key, title, description ON issues
+FOR EACH ROW
+WHEN (OLD.issue_key IS DISTINCT FROM NEW.issue_key
+      OR OLD.title IS DISTINCT FROM NEW.title
+      OR OLD.description IS DISTINCT FROM NEW.description)
+EXECUTE FUNCTION issues_search_vector_trigger();
+
+CREATE INDEX index_issue_search_vector ON issues USING GIN (search_vector);
+CREATE INDEX index_issue_project ON issues (project_id);
+CREATE UNIQUE INDEX index_issue_key ON issues (issue_key);
+VACUUM ANALYZE issues;
+VACUUM ANALYZE comments;
+
+-- 1. One common word across all projects, first page of 20
+
+-- LIKE path (IssueRepository.searchIssues, slice of 20 newest)
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT i.* FROM issues i
+WHERE lower(i.title) LIKE '%deadlock%' OR lower(i.description) LIKE '%deadlock%' OR lower(i.issue_key) LIKE '%deadlock%'
+ORDER BY i.created_at DESC LIMIT 21;
+
+-- Full-text path (IssueRepository.fullTextSearchIssueIds, page of 20 by relevance)
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT i.id FROM issues i
+WHERE i.search_vector @@ to_tsquery('english', 'deadlock:*') OR i.issue_key = upper('deadlock')
+ORDER BY (i.issue_key = upper('deadlock')) DESC, ts_rank(i.search_vector, to_tsquery('english', 'deadlock:*')) DESC, i.id DESC
+LIMIT 20;
+
+-- 2. Two prefixes that must both match, inside one project
+
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT i.* FROM issues i
+WHERE i.project_id = 42
+  AND (lower(i.title) LIKE '%depl fail%' OR lower(i.description) LIKE '%depl fail%' OR lower(i.issue_key) LIKE '%depl fail%')
+ORDER BY i.created_at DESC LIMIT 21;
+
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT i.id FROM issues i
+WHERE i.project_id = 42
+  AND (i.search_vector @@ to_tsquery('english', 'depl:* & fail:*') OR i.issue_key = upper('depl fail'))
+ORDER BY (i.issue_key = upper('depl fail')) DESC, ts_rank(i.search_vector, to_tsquery('english', 'depl:* & fail:*')) DESC, i.id DESC
+LIMIT 20;
+
+-- 3. A word that matches nothing (worst case for LIKE: full scan, no early exit)
+
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT i.* FROM issues i
+WHERE lower(i.title) LIKE '%zebra%' OR lower(i.description) LIKE '%zebra%' OR lower(i.issue_key) LIKE '%zebra%'
+ORDER BY i.created_at DESC LIMIT 21;
+
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT i.id FROM issues i
+WHERE i.search_vector @@ to_tsquery('english', 'zebra:*') OR i.issue_key = upper('zebra')
+ORDER BY (i.issue_key = upper('zebra')) DESC, ts_rank(i.search_vector, to_tsquery('english', 'zebra:*')) DESC, i.id DESC
+LIMIT 20;
+
+-- 4. Write cost: a board move (rank/status only) must not recompute the vector, an edit does
+
+EXPLAIN (ANALYZE)
+UPDATE issues SET status = 'DONE', issue_key = issue_key, title = title, description = description
+WHERE id BETWEEN 1 AND 10000;
+
+EXPLAIN (ANALYZE)
+UPDATE issues SET title = title || ' edited'
+WHERE id BETWEEN 10001 AND 20000;
+
+RESET search_path;